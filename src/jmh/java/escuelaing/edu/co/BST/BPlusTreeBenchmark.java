@@ -0,0 +1,95 @@
+package escuelaing.edu.co.BST;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency and scan throughput of {@link BPlusTree} at several node sizes against the binary
+ * {@link AVLTree}. Keys are inserted in random order. {@code contains} probes existing keys;
+ * the range benchmarks scan {@code scanLength} consecutive keys from a random starting point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BPlusTreeBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"16", "64", "256"})
+    public int nodeSize;
+
+    @Param({"1000"})
+    public int scanLength;
+
+    private Integer[] probes;
+    private BPlusTree<Integer> bplus;
+    private AVLTree<Integer> avl;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Comparable<?>[] keys = BenchmarkKeys.generate("Integer", size, "RANDOM", 42);
+        probes = new Integer[size];
+        bplus = new BPlusTree<>(nodeSize);
+        avl = new AVLTree<>();
+        for (int i = 0; i < size; i++) {
+            Integer key = (Integer) keys[i];
+            probes[i] = key;
+            bplus.insert(key);
+            avl.insert(key);
+        }
+    }
+
+    private Integer nextProbe() {
+        Integer probe = probes[cursor];
+        cursor = cursor + 1 == probes.length ? 0 : cursor + 1;
+        return probe;
+    }
+
+    @Benchmark
+    public boolean bplusContains() {
+        return bplus.contains(nextProbe());
+    }
+
+    @Benchmark
+    public boolean avlContains() {
+        return avl.contains(nextProbe());
+    }
+
+    @Benchmark
+    public void bplusRangeScan(Blackhole blackhole) {
+        Integer from = nextProbe();
+        Iterator<Integer> iterator = bplus.range(from, true, null, false);
+        for (int i = 0; i < scanLength && iterator.hasNext(); i++) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void avlRangeScan(Blackhole blackhole) {
+        Integer from = nextProbe();
+        Iterator<Integer> iterator = avl.tailSet(from, true).iterator();
+        for (int i = 0; i < scanLength && iterator.hasNext(); i++) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void bplusFullScan(Blackhole blackhole) {
+        bplus.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void avlFullScan(Blackhole blackhole) {
+        for (Integer value : avl) {
+            blackhole.consume(value);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates benchmark keys of a given type, count and insertion order.
+ */
+final class BenchmarkKeys {
+
+    private BenchmarkKeys() {
+    }
+
+    /**
+     * Creates distinct keys in the requested insertion order.
+     *
+     * @param keyType Integer, String or Double
+     * @param size the number of keys
+     * @param order RANDOM, SORTED, REVERSE or ZIGZAG (alternating from both ends of the sorted sequence)
+     * @param seed the seed used for random orders
+     * @return the keys
+     */
+    @SuppressWarnings("rawtypes")
+    static Comparable[] generate(String keyType, int size, String order, long seed) {
+        Comparable[] sorted = new Comparable[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = key(keyType, i);
+        }
+        Arrays.sort(sorted);
+        Comparable[] keys = new Comparable[size];
+        switch (order) {
+            case "SORTED":
+                System.arraycopy(sorted, 0, keys, 0, size);
+                break;
+            case "REVERSE":
+                for (int i = 0; i < size; i++) {
+                    keys[i] = sorted[size - 1 - i];
+                }
+                break;
+            case "ZIGZAG":
+                for (int i = 0, low = 0, high = size - 1; i < size; i++) {
+                    keys[i] = i % 2 == 0 ? sorted[low++] : sorted[high--];
+                }
+                break;
+            case "RANDOM":
+                System.arraycopy(sorted, 0, keys, 0, size);
+                shuffle(keys, new Random(seed));
+                break;
+            default:
+                throw new IllegalArgumentException("Orden desconocido: " + order);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns a copy of the keys in random order, used to pick lookup probes.
+     */
+    @SuppressWarnings("rawtypes")
+    static Comparable[] shuffled(Comparable[] keys, long seed) {
+        Comparable[] copy = keys.clone();
+        shuffle(copy, new Random(seed));
+        return copy;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable key(String keyType, int i) {
+        switch (keyType) {
+            case "Integer":
+                return i;
+            case "String":
+                return String.format("key-%010d", i);
+            case "Double":
+                return i * 1.5;
+            default:
+                throw new IllegalArgumentException("Tipo de clave desconocido: " + keyType);
+        }
+    }
+
+    private static void shuffle(Object[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package escuelaing.edu.co.BST;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the core operations of {@link BinarySearchTree} and {@link AVLTree}.
+ * Sorted, reverse and zig-zag orders degenerate the plain tree into a chain, so large sizes
+ * should be combined with {@code -p tree=AVL} or the random order.
+ * The default sizes keep the full matrix short; sizes from 10^5 to 10^7 are measured by overriding them,
+ * for example {@code -p size=100000,1000000,10000000 -p tree=AVL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BinarySearchTreeBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"Integer", "String", "Double"})
+    public String keyType;
+
+    @Param({"RANDOM", "SORTED", "REVERSE", "ZIGZAG"})
+    public String order;
+
+    @Param({"BST", "AVL"})
+    public String tree;
+
+    private Comparable[] keys;
+    private Comparable[] probes;
+    private BinarySearchTree populated;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = BenchmarkKeys.generate(keyType, size, order, 42);
+        probes = BenchmarkKeys.shuffled(keys, 7);
+        populated = newTree();
+        for (Comparable key : keys) {
+            populated.insert(key);
+        }
+    }
+
+    private BinarySearchTree newTree() {
+        return "AVL".equals(tree) ? new AVLTree() : new BinarySearchTree();
+    }
+
+    private Comparable nextProbe() {
+        Comparable probe = probes[cursor];
+        cursor = cursor + 1 == probes.length ? 0 : cursor + 1;
+        return probe;
+    }
+
+    /**
+     * Builds a whole tree by inserting every key in the configured order.
+     */
+    @Benchmark
+    public BinarySearchTree insert() {
+        BinarySearchTree target = newTree();
+        for (Comparable key : keys) {
+            target.insert(key);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Object search() {
+        return populated.search(nextProbe());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populated.contains(nextProbe());
+    }
+
+    /**
+     * Deletes a present key. {@link DeleteState} picks the key and inserts it back outside the measured time.
+     */
+    @Benchmark
+    public BinarySearchTree delete(DeleteState state) {
+        state.tree.delete(state.key);
+        return state.tree;
+    }
+
+    /**
+     * Tree of the {@link #delete(DeleteState)} benchmark, kept apart so that only that benchmark pays for
+     * per-invocation fixtures. Each invocation deletes a key that its teardown inserts back, so the tree
+     * keeps the configured size.
+     */
+    @State(Scope.Thread)
+    public static class DeleteState {
+        private BinarySearchTree tree;
+        private Comparable key;
+
+        @Setup(Level.Trial)
+        public void setUp(BinarySearchTreeBenchmark benchmark) {
+            tree = benchmark.newTree();
+            for (Comparable key : benchmark.keys) {
+                tree.insert(key);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void pickKey(BinarySearchTreeBenchmark benchmark) {
+            key = benchmark.nextProbe();
+        }
+
+        @TearDown(Level.Invocation)
+        public void restoreKey() {
+            tree.insert(key);
+        }
+    }
+
+    @Benchmark
+    public int size() {
+        return populated.size();
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        Iterator iterator = populated.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return populated.toArray();
+    }
+
+    @Benchmark
+    public String inOrderTraversal() {
+        return populated.inOrderTraversal();
+    }
+
+    @Benchmark
+    public String preOrderTraversal() {
+        return populated.preOrderTraversal();
+    }
+
+    @Benchmark
+    public String postOrderTraversal() {
+        return populated.postOrderTraversal();
+    }
+
+    @Benchmark
+    public String levelOrderTraversal() {
+        return populated.levelOrderTraversal();
+    }
+}
@@ -0,0 +1,116 @@
+package escuelaing.edu.co.BST;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-heavy throughput of {@link ConcurrentBinarySearchTree} against an {@link AVLTree} guarded by a
+ * global lock. Each method is pinned to a thread count so a single run shows how reads scale.
+ * The mixed group runs seven readers per writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentBinarySearchTreeBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private ConcurrentBinarySearchTree<Integer> concurrent;
+    private AVLTree<Integer> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrent = new ConcurrentBinarySearchTree<>();
+        locked = new AVLTree<>();
+        for (int i = 0; i < size; i += 2) {
+            concurrent.add(i);
+            locked.add(i);
+        }
+    }
+
+    private int randomKey() {
+        return ThreadLocalRandom.current().nextInt(size);
+    }
+
+    private boolean lockedContains() {
+        synchronized (locked) {
+            return locked.contains(randomKey());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean concurrentContains1() {
+        return concurrent.contains(randomKey());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean concurrentContains4() {
+        return concurrent.contains(randomKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean concurrentContainsMax() {
+        return concurrent.contains(randomKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean lockedContains1() {
+        return lockedContains();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean lockedContains4() {
+        return lockedContains();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean lockedContainsMax() {
+        return lockedContains();
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(7)
+    public boolean concurrentMixedRead() {
+        return concurrent.contains(randomKey());
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(1)
+    public void concurrentMixedWrite() {
+        int key = randomKey() | 1;
+        concurrent.add(key);
+        concurrent.remove((Integer) key);
+    }
+
+    @Benchmark
+    @Group("lockedMixed")
+    @GroupThreads(7)
+    public boolean lockedMixedRead() {
+        return lockedContains();
+    }
+
+    @Benchmark
+    @Group("lockedMixed")
+    @GroupThreads(1)
+    public void lockedMixedWrite() {
+        int key = randomKey() | 1;
+        synchronized (locked) {
+            locked.add(key);
+            locked.remove((Integer) key);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package escuelaing.edu.co.BST;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Update throughput of {@link DurableBinarySearchTree} under each fsync policy against the in-memory
+ * {@link BinarySearchTree}. Every invocation inserts a new key and deletes the oldest one, so the tree
+ * keeps its size and every invocation writes two log records. Set {@code -p storage=...} to pick the
+ * file system; fsync cost depends heavily on it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DurableBinarySearchTreeBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"MEMORY", "NEVER", "BATCH", "ALWAYS"})
+    public String mode;
+
+    @Param({""})
+    public String storage;
+
+    private Path directory;
+    private BinarySearchTree<Integer> tree;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("MEMORY".equals(mode)) {
+            tree = new BinarySearchTree<>();
+        } else {
+            directory = storage.isEmpty() ? Files.createTempDirectory("bst-wal") : Files.createTempDirectory(Path.of(storage), "bst-wal");
+            tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, DurableBinarySearchTree.FsyncPolicy.valueOf(mode));
+        }
+        // Scrambled keys keep the plain tree at logarithmic height.
+        for (next = 0; next < size; next++) {
+            tree.insert(scramble(next));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (tree instanceof DurableBinarySearchTree) {
+            ((DurableBinarySearchTree<Integer>) tree).close();
+        }
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static int scramble(int i) {
+        return i * 0x9E3779B9;
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        tree.insert(scramble(next));
+        tree.delete(scramble(next - size));
+        return next++;
+    }
+}
@@ -0,0 +1,135 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A self-balancing binary search tree (AVL tree).
+ * It exposes the same public API as {@link BinarySearchTree}, but rebalances the tree after every
+ * insertion and deletion so the height stays O(log n) regardless of the insertion order.
+ *
+ * @param <E> the type of elements stored in the tree
+ */
+public class AVLTree<E> extends BinarySearchTree<E> {
+
+    public AVLTree() {
+        super();
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator.
+     *
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     */
+    public AVLTree(Comparator<? super E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator that caches a normalized key prefix in every node.
+     *
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     * @param keyPrefix the function computing the key prefix of a value, or null to disable the cache
+     * @see BinarySearchTree#BinarySearchTree(Comparator, ToLongFunction)
+     */
+    public AVLTree(Comparator<? super E> comparator, ToLongFunction<? super E> keyPrefix) {
+        super(comparator, keyPrefix);
+    }
+
+    /**
+     * Creates a tree holding the distinct values of a collection. The values are bulk-loaded
+     * into a minimum-height tree, which already satisfies the AVL property.
+     *
+     * @param values the values to load
+     */
+    public AVLTree(Collection<? extends E> values) {
+        super(values);
+    }
+
+    /**
+     * Updates the height and size of a subtree and restores the AVL property at its root.
+     * It is called for every ancestor of an inserted or deleted node, from the bottom up.
+     *
+     * @param node the root of the subtree
+     * @return the root of the rebalanced subtree
+     */
+    @Override
+    protected Node fixUp(Node node) {
+        return rebalance(super.fixUp(node));
+    }
+
+    /**
+     * Returns the difference between the heights of the left and right subtrees of a node.
+     *
+     * @param node the node
+     * @return the balance factor of the node
+     */
+    private int balanceFactor(Node node) {
+        return heightOf(node.left) - heightOf(node.right);
+    }
+
+    /**
+     * Restores the AVL property at a node whose height is up to date, performing single or
+     * double rotations as needed.
+     *
+     * @param node the root of the subtree to rebalance
+     * @return the new root of the subtree
+     */
+    private Node rebalance(Node node) {
+        int balance = balanceFactor(node);
+        if (balance > 1) {
+            if (balanceFactor(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (balanceFactor(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the right around its root. Nodes shared with a snapshot are copied first.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree (the former left child)
+     */
+    private Node rotateRight(Node node) {
+        TreeMetrics metrics = metrics();
+        if (metrics != null) {
+            metrics.recordRotation();
+        }
+        node = own(node);
+        Node pivot = own(node.left);
+        node.left = pivot.right;
+        pivot.right = node;
+        updateNode(node);
+        updateNode(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree to the left around its root. Nodes shared with a snapshot are copied first.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree (the former right child)
+     */
+    private Node rotateLeft(Node node) {
+        TreeMetrics metrics = metrics();
+        if (metrics != null) {
+            metrics.recordRotation();
+        }
+        node = own(node);
+        Node pivot = own(node.right);
+        node.right = pivot.left;
+        pivot.left = node;
+        updateNode(node);
+        updateNode(pivot);
+        return pivot;
+    }
+}
@@ -0,0 +1,170 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Comparator;
+
+/**
+ * An AVL tree that keeps a {@link TreeAggregate} of every subtree in its root node.
+ * The aggregates are recomputed from the children whenever a node is updated, which covers insertions,
+ * deletions, rotations and bulk loads, so the aggregate of any range of values takes O(log n):
+ * the two boundary paths contribute whole subtrees instead of walking the elements one by one.
+ *
+ * @param <E> the type of elements stored in the tree
+ * @param <A> the type of the aggregate
+ */
+public class AggregateTree<E, A> extends AVLTree<E> {
+
+    private final TreeAggregate<? super E, A> aggregate;
+
+    /**
+     * Creates an empty tree ordered by the natural ordering of its elements.
+     *
+     * @param aggregate the aggregate kept for every subtree
+     */
+    public AggregateTree(TreeAggregate<? super E, A> aggregate) {
+        this(aggregate, null);
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator.
+     *
+     * @param aggregate the aggregate kept for every subtree
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     */
+    public AggregateTree(TreeAggregate<? super E, A> aggregate, Comparator<? super E> comparator) {
+        super(comparator);
+        this.aggregate = aggregate;
+    }
+
+    /**
+     * A node holding the aggregate of its subtree.
+     */
+    private final class AggregateNode extends Node {
+        A summary;
+
+        AggregateNode(E value) {
+            super(value);
+        }
+    }
+
+    @Override
+    protected Node newNode(E value) {
+        AggregateNode node = new AggregateNode(value);
+        node.summary = aggregate.of(value);
+        return node;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Node copyNode(Node node) {
+        AggregateNode copy = (AggregateNode) super.copyNode(node);
+        copy.summary = summaryOf(node);
+        return copy;
+    }
+
+    /**
+     * Recomputes the height, size and aggregate of a node from those of its children.
+     *
+     * @param node the node to update
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void updateNode(Node node) {
+        super.updateNode(node);
+        A summary = aggregate.combine(summaryOf(node.left), aggregate.of(node.value));
+        ((AggregateNode) node).summary = aggregate.combine(summary, summaryOf(node.right));
+    }
+
+    /**
+     * Returns the aggregate stored in a node, for subclasses that prune their own descents with it.
+     *
+     * @param node the root of the subtree
+     * @return the aggregate of the subtree, or the identity for an empty subtree
+     */
+    @SuppressWarnings("unchecked")
+    protected A summaryOf(Node node) {
+        return node == null ? aggregate.identity() : ((AggregateNode) node).summary;
+    }
+
+    /**
+     * Returns the aggregate of all the elements in constant time.
+     *
+     * @return the aggregate stored at the root
+     */
+    public A aggregate() {
+        return summaryOf(root());
+    }
+
+    /**
+     * Returns the aggregate of the elements between two bounds, both included, in O(log n).
+     *
+     * @param from the lower bound
+     * @param to the upper bound
+     * @return the aggregate of the range
+     * @throws IllegalArgumentException if the lower bound is greater than the upper bound
+     */
+    public A aggregate(E from, E to) {
+        return aggregate(from, true, to, true);
+    }
+
+    /**
+     * Returns the aggregate of the elements between two bounds in O(log n). The descent stops at the
+     * first node inside the range; from there, each boundary path adds the node and the whole subtree
+     * on the inner side of every node that falls inside the range.
+     *
+     * @param from the lower bound
+     * @param fromInclusive whether the lower bound itself is included
+     * @param to the upper bound
+     * @param toInclusive whether the upper bound itself is included
+     * @return the aggregate of the range
+     * @throws IllegalArgumentException if the lower bound is greater than the upper bound
+     */
+    public A aggregate(E from, boolean fromInclusive, E to, boolean toInclusive) {
+        if (compare(from, to) > 0) {
+            throw new IllegalArgumentException("El límite inferior es mayor que el límite superior.");
+        }
+        Node split = root();
+        while (split != null) {
+            if (belowLower(split.value, from, fromInclusive)) {
+                split = split.right;
+            } else if (aboveUpper(split.value, to, toInclusive)) {
+                split = split.left;
+            } else {
+                break;
+            }
+        }
+        if (split == null) {
+            return aggregate.identity();
+        }
+        A lower = aggregate.identity();
+        for (Node node = split.left; node != null; ) {
+            if (belowLower(node.value, from, fromInclusive)) {
+                node = node.right;
+            } else {
+                A inside = aggregate.combine(aggregate.of(node.value), summaryOf(node.right));
+                lower = aggregate.combine(inside, lower);
+                node = node.left;
+            }
+        }
+        A upper = aggregate.identity();
+        for (Node node = split.right; node != null; ) {
+            if (aboveUpper(node.value, to, toInclusive)) {
+                node = node.left;
+            } else {
+                A inside = aggregate.combine(summaryOf(node.left), aggregate.of(node.value));
+                upper = aggregate.combine(upper, inside);
+                node = node.right;
+            }
+        }
+        return aggregate.combine(aggregate.combine(lower, aggregate.of(split.value)), upper);
+    }
+
+    private boolean belowLower(E value, E from, boolean fromInclusive) {
+        int cmp = compare(value, from);
+        return cmp < 0 || (cmp == 0 && !fromInclusive);
+    }
+
+    private boolean aboveUpper(E value, E to, boolean toInclusive) {
+        int cmp = compare(value, to);
+        return cmp > 0 || (cmp == 0 && !toInclusive);
+    }
+}
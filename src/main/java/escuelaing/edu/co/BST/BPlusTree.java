@@ -0,0 +1,525 @@
+package escuelaing.edu.co.BST;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A B+ tree: a sorted set whose nodes hold many keys each, so a lookup touches a handful of
+ * cache-friendly arrays instead of one node per level of a binary tree.
+ * <p>
+ * All elements live in the leaves, which are linked from left to right so that iteration and range
+ * scans walk whole arrays. Inner nodes only hold separator keys: {@code keys[i]} is not greater than any
+ * element under {@code children[i + 1]} and greater than every element under {@code children[i]}.
+ * Every node except the root holds between {@code nodeSize / 2} and {@code nodeSize} keys, and all leaves
+ * are at the same depth. Insertion and deletion work bottom-up along the recorded search path, splitting
+ * full nodes and refilling underfull ones from a sibling or merging with it.
+ *
+ * @param <E> the type of elements stored in the tree
+ */
+public class BPlusTree<E extends Comparable<E>> extends AbstractSet<E> {
+
+    public static final int DEFAULT_NODE_SIZE = 64;
+
+    /**
+     * Deepest possible tree: even with the minimum fanout of two children, 2^31 elements fit in fewer levels.
+     */
+    private static final int MAX_DEPTH = 64;
+
+    /**
+     * A node of the tree. Leaves have no children and are linked to the next leaf;
+     * inner nodes have {@code count + 1} children. Arrays have one spare slot for the entry that triggers a split.
+     */
+    private static final class Node {
+        final Object[] keys;
+        final Node[] children;
+        int count;
+        Node next;
+
+        Node(int nodeSize, boolean leaf) {
+            keys = new Object[nodeSize + 1];
+            children = leaf ? null : new Node[nodeSize + 2];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private final int nodeSize;
+    private final int minKeys;
+    private Node root;
+    private int size;
+    private int height;
+    private int modCount;
+    private final Node[] path = new Node[MAX_DEPTH];
+    private final int[] slots = new int[MAX_DEPTH];
+
+    public BPlusTree() {
+        this(DEFAULT_NODE_SIZE);
+    }
+
+    /**
+     * Creates an empty tree whose nodes hold at most the given number of keys.
+     *
+     * @param nodeSize the maximum number of keys per node, at least 3
+     */
+    public BPlusTree(int nodeSize) {
+        if (nodeSize < 3) {
+            throw new IllegalArgumentException("El tamaño de nodo debe ser al menos 3: " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        this.minKeys = nodeSize / 2;
+        this.root = new Node(nodeSize, true);
+    }
+
+    /**
+     * Returns the maximum number of keys per node.
+     *
+     * @return the node size
+     */
+    public int nodeSize() {
+        return nodeSize;
+    }
+
+    /**
+     * Binary search within a node.
+     *
+     * @return the index of the key, or {@code -(insertion point) - 1} if it is not in the node
+     */
+    @SuppressWarnings("unchecked")
+    private int indexOf(Node node, E value) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = ((E) node.keys[middle]).compareTo(value);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the child of an inner node whose range holds a value.
+     */
+    private int childIndex(Node node, E value) {
+        int index = indexOf(node, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Descends to the leaf whose range holds a value, recording the inner nodes and child indexes on the way.
+     *
+     * @return the depth of the leaf, that is, the number of entries stored in the path
+     */
+    private int descend(E value) {
+        Node node = root;
+        int depth = 0;
+        while (!node.isLeaf()) {
+            int child = childIndex(node, value);
+            path[depth] = node;
+            slots[depth++] = child;
+            node = node.children[child];
+        }
+        path[depth] = node;
+        return depth;
+    }
+
+    /**
+     * Inserts a value into the tree. Duplicate values are ignored.
+     *
+     * @param value the value to insert
+     * @return true if the value was added
+     * @throws NullPointerException if the value is null
+     */
+    public boolean insert(E value) {
+        Objects.requireNonNull(value);
+        int depth = descend(value);
+        Node leaf = path[depth];
+        int index = indexOf(leaf, value);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+        leaf.keys[index] = value;
+        leaf.count++;
+        size++;
+        modCount++;
+        if (leaf.count <= nodeSize) {
+            return true;
+        }
+
+        Node right = new Node(nodeSize, true);
+        int keep = leaf.count / 2;
+        right.count = leaf.count - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.count);
+        Arrays.fill(leaf.keys, keep, leaf.count, null);
+        leaf.count = keep;
+        right.next = leaf.next;
+        leaf.next = right;
+        Object separator = right.keys[0];
+        Node split = right;
+
+        while (depth > 0) {
+            Node parent = path[--depth];
+            int slot = slots[depth];
+            System.arraycopy(parent.keys, slot, parent.keys, slot + 1, parent.count - slot);
+            System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, parent.count - slot);
+            parent.keys[slot] = separator;
+            parent.children[slot + 1] = split;
+            parent.count++;
+            if (parent.count <= nodeSize) {
+                return true;
+            }
+            Node sibling = new Node(nodeSize, false);
+            int middle = parent.count / 2;
+            separator = parent.keys[middle];
+            sibling.count = parent.count - middle - 1;
+            System.arraycopy(parent.keys, middle + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(parent.children, middle + 1, sibling.children, 0, sibling.count + 1);
+            Arrays.fill(parent.keys, middle, parent.count, null);
+            Arrays.fill(parent.children, middle + 1, parent.count + 1, null);
+            parent.count = middle;
+            split = sibling;
+        }
+
+        Node newRoot = new Node(nodeSize, false);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = split;
+        newRoot.count = 1;
+        root = newRoot;
+        height++;
+        return true;
+    }
+
+    /**
+     * Deletes a value from the tree.
+     *
+     * @param value the value to delete
+     * @return true if the value was removed
+     */
+    public boolean delete(E value) {
+        int depth = descend(value);
+        Node node = path[depth];
+        int index = indexOf(node, value);
+        if (index < 0) {
+            return false;
+        }
+        removeKey(node, index);
+        size--;
+        modCount++;
+
+        while (depth > 0 && node.count < minKeys) {
+            Node parent = path[--depth];
+            int slot = slots[depth];
+            Node left = slot > 0 ? parent.children[slot - 1] : null;
+            Node right = slot < parent.count ? parent.children[slot + 1] : null;
+            if (left != null && left.count > minKeys) {
+                borrowFromLeft(parent, slot, left, node);
+                return true;
+            }
+            if (right != null && right.count > minKeys) {
+                borrowFromRight(parent, slot, node, right);
+                return true;
+            }
+            if (left != null) {
+                merge(parent, slot - 1, left, node);
+            } else {
+                merge(parent, slot, node, right);
+            }
+            node = parent;
+        }
+        if (!root.isLeaf() && root.count == 0) {
+            root = root.children[0];
+            height--;
+        }
+        return true;
+    }
+
+    private void removeKey(Node node, int index) {
+        System.arraycopy(node.keys, index + 1, node.keys, index, node.count - index - 1);
+        node.keys[--node.count] = null;
+    }
+
+    /**
+     * Moves the last entry of the left sibling into an underfull node.
+     */
+    private void borrowFromLeft(Node parent, int slot, Node left, Node node) {
+        System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+        if (node.isLeaf()) {
+            node.keys[0] = left.keys[left.count - 1];
+            parent.keys[slot - 1] = node.keys[0];
+        } else {
+            System.arraycopy(node.children, 0, node.children, 1, node.count + 1);
+            node.keys[0] = parent.keys[slot - 1];
+            node.children[0] = left.children[left.count];
+            parent.keys[slot - 1] = left.keys[left.count - 1];
+            left.children[left.count] = null;
+        }
+        node.count++;
+        left.keys[--left.count] = null;
+    }
+
+    /**
+     * Moves the first entry of the right sibling into an underfull node.
+     */
+    private void borrowFromRight(Node parent, int slot, Node node, Node right) {
+        if (node.isLeaf()) {
+            node.keys[node.count] = right.keys[0];
+            removeKey(right, 0);
+            parent.keys[slot] = right.keys[0];
+        } else {
+            node.keys[node.count] = parent.keys[slot];
+            node.children[node.count + 1] = right.children[0];
+            parent.keys[slot] = right.keys[0];
+            System.arraycopy(right.children, 1, right.children, 0, right.count);
+            right.children[right.count] = null;
+            removeKey(right, 0);
+        }
+        node.count++;
+    }
+
+    /**
+     * Appends the right node to the left one and removes the separator between them from the parent.
+     */
+    private void merge(Node parent, int separator, Node left, Node right) {
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[separator];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        System.arraycopy(parent.children, separator + 2, parent.children, separator + 1, parent.count - separator - 1);
+        parent.children[parent.count] = null;
+        removeKey(parent, separator);
+    }
+
+    /**
+     * Searches for a value in the tree.
+     *
+     * @param value the value to search for
+     * @return the stored element equal to the value, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public E search(E value) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[childIndex(node, value)];
+        }
+        int index = indexOf(node, value);
+        return index >= 0 ? (E) node.keys[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return search((E) o) != null;
+    }
+
+    @Override
+    public boolean add(E value) {
+        return insert(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        return delete((E) o);
+    }
+
+    /**
+     * Finds the minimum value in the tree.
+     *
+     * @return the smallest element, or null if the tree is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E findMin() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return node.count == 0 ? null : (E) node.keys[0];
+    }
+
+    /**
+     * Finds the maximum value in the tree.
+     *
+     * @return the largest element, or null if the tree is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E findMax() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.count];
+        }
+        return node.count == 0 ? null : (E) node.keys[node.count - 1];
+    }
+
+    /**
+     * Returns the number of levels below the root; every leaf is at this depth.
+     *
+     * @return the height of the tree, or -1 if the tree is empty
+     */
+    public int height() {
+        return size == 0 ? -1 : height;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        root = new Node(nodeSize, true);
+        size = 0;
+        height = 0;
+        modCount++;
+    }
+
+    /**
+     * Performs an in-order traversal of the tree by walking the linked leaves.
+     *
+     * @return a string representation of the elements in ascending order
+     */
+    public String inOrderTraversal() {
+        StringBuilder output = new StringBuilder();
+        forEach(value -> output.append(value).append(" "));
+        return output.toString().trim();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (Node leaf = leftmostLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                action.accept((E) leaf.keys[i]);
+            }
+        }
+    }
+
+    private Node leftmostLeaf() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return node;
+    }
+
+    /**
+     * Returns an iterator over the elements in ascending order.
+     *
+     * @return an iterator over the tree
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator(null, false, null, false);
+    }
+
+    /**
+     * Returns an iterator over the elements within a range, in ascending order. The scan starts with
+     * one descent to the first leaf of the range and then follows the leaf links.
+     *
+     * @param from the lower bound, or null for no lower bound
+     * @param fromInclusive whether the lower bound is included
+     * @param to the upper bound, or null for no upper bound
+     * @param toInclusive whether the upper bound is included
+     * @return an iterator over the elements of the range
+     */
+    public Iterator<E> range(E from, boolean fromInclusive, E to, boolean toInclusive) {
+        return new LeafIterator(from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Iterator that walks the leaf chain between optional bounds. Removing re-seeks past the removed
+     * element, since merges may move the remaining elements to another leaf.
+     */
+    private class LeafIterator implements Iterator<E> {
+        private final E hi;
+        private final boolean hiInclusive;
+        private Node leaf;
+        private int index;
+        private E lastReturned;
+        private int expectedModCount = modCount;
+
+        LeafIterator(E lo, boolean loInclusive, E hi, boolean hiInclusive) {
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            if (lo == null) {
+                leaf = leftmostLeaf();
+                index = 0;
+            } else {
+                seek(lo, loInclusive);
+            }
+        }
+
+        /**
+         * Positions the iterator at the first element greater than (or equal to) a value.
+         */
+        private void seek(E value, boolean inclusive) {
+            leaf = path[descend(value)];
+            int found = indexOf(leaf, value);
+            index = found >= 0 ? (inclusive ? found : found + 1) : -found - 1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null) {
+                return false;
+            }
+            if (hi == null) {
+                return true;
+            }
+            int cmp = ((E) leaf.keys[index]).compareTo(hi);
+            return cmp < 0 || (cmp == 0 && hiInclusive);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = (E) leaf.keys[index++];
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            delete(lastReturned);
+            seek(lastReturned, false);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
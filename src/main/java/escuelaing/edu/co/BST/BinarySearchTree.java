@@ -1,27 +1,207 @@
 package escuelaing.edu.co.BST;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
+public class BinarySearchTree<E> implements List<E>, NavigableSet<E> {
 
     /**
      * Represents a node in the binary search tree.
-     * Each node contains a value, and references to its left and right children.
+     * Each node contains a value, references to its left and right children, and the height and
+     * number of nodes of the subtree rooted at it. The epoch records the version of the tree that created
+     * the node; nodes from older epochs may be shared with snapshots and are copied before being modified.
      */
     protected class Node {
         E value;
         Node left, right;
+        int height;
+        int size;
+        int epoch;
 
         Node(E value) {
             this.value = value;
             left = right = null;
+            height = 0;
+            size = 1;
+            epoch = BinarySearchTree.this.epoch;
         }
     }
 
+    /**
+     * A node that also caches the normalized key prefix of its value. Only trees with a key prefix
+     * function create them, so trees without one do not pay the extra 8 bytes per node.
+     */
+    protected class PrefixNode extends Node {
+        final long prefix;
+
+        PrefixNode(E value) {
+            super(value);
+            prefix = prefixOf(value);
+        }
+    }
+
+    /**
+     * Minimum number of elements for which the parallel operations split their work.
+     */
+    protected static final int PARALLEL_THRESHOLD = 1 << 13;
+
     private Node root;
 
+    /**
+     * Ordering of the elements, or null for their natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Order-preserving function mapping a value to a 64-bit key prefix, or null when prefixes are not cached.
+     */
+    private final ToLongFunction<? super E> keyPrefix;
+
+    /**
+     * Number of structural modifications, used to detect concurrent modification in views.
+     */
+    private int modCount;
+
+    /**
+     * Current version of the tree. Taking a snapshot advances it, so every existing node becomes shared.
+     */
+    private int epoch;
+
+    /**
+     * Whether this tree is a read-only snapshot.
+     */
+    private boolean immutable;
+
+    /**
+     * Instrumentation of the tree, or null while metrics are disabled.
+     */
+    private TreeMetrics metrics;
+
+    /**
+     * Scratch stack holding the root-to-node path of the last insertion or deletion,
+     * so that structural updates never rely on recursion.
+     */
+    @SuppressWarnings("unchecked")
+    private Node[] path = (Node[]) new BinarySearchTree<?>.Node[16];
+
+    /**
+     * Creates an empty tree ordered by the natural ordering of its elements, which must be {@link Comparable}.
+     */
     public BinarySearchTree() {
-        root = null;
+        this(null, null);
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator.
+     * 
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     */
+    public BinarySearchTree(Comparator<? super E> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator that caches a normalized key prefix in every node.
+     * Descents compare the cached prefixes first and only call the comparator when they are equal, which
+     * skips most comparisons of long keys such as strings. The prefix function must agree with the ordering:
+     * whenever {@code Long.compareUnsigned(keyPrefix(a), keyPrefix(b)) < 0}, {@code a} must sort before {@code b}.
+     * 
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     * @param keyPrefix the function computing the key prefix of a value, or null to disable the cache
+     * @see KeyPrefixes
+     */
+    public BinarySearchTree(Comparator<? super E> comparator, ToLongFunction<? super E> keyPrefix) {
+        this.comparator = comparator;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * Creates a minimum-height tree holding the distinct values of a collection, in their natural ordering.
+     * Sorted input is loaded in linear time.
+     * 
+     * @param values the values to load
+     */
+    public BinarySearchTree(Collection<? extends E> values) {
+        this();
+        load(values.toArray());
+    }
+
+    /**
+     * Compares two values with the ordering of the tree.
+     * 
+     * @param a the first value
+     * @param b the second value
+     * @return a negative number, zero or a positive number if the first value is smaller, equal or greater
+     */
+    protected final int compare(E a, E b) {
+        if (comparator != null) {
+            return comparator.compare(a, b);
+        }
+        @SuppressWarnings("unchecked")
+        Comparable<? super E> comparable = (Comparable<? super E>) a;
+        return comparable.compareTo(b);
+    }
+
+    /**
+     * Returns the cached key prefix of a value, or 0 when the tree does not cache prefixes.
+     * 
+     * @param value the value
+     * @return the key prefix
+     */
+    protected final long prefixOf(E value) {
+        return keyPrefix == null ? 0 : keyPrefix.applyAsLong(value);
+    }
+
+    /**
+     * Compares a value with the value of a node, deciding by the cached key prefixes whenever they differ.
+     * 
+     * @param value the value
+     * @param prefix the key prefix of the value, from {@link #prefixOf(Object)}
+     * @param node the node to compare with
+     * @return a negative number, zero or a positive number if the value is smaller, equal or greater
+     */
+    protected final int compareTo(E value, long prefix, Node node) {
+        if (keyPrefix != null) {
+            int cmp = Long.compareUnsigned(prefix, prefixOf(node));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return compare(value, node.value);
+    }
+
+    /**
+     * Tells whether {@link #compareTo(Object, long, Node)} needs the comparator for a node, that is,
+     * whether the cached key prefixes do not already decide the order. Used to count key comparisons.
+     * 
+     * @param prefix the key prefix of the value
+     * @param node the node to compare with
+     * @return true if comparing with the node calls the comparator
+     */
+    protected final boolean comparesKeys(long prefix, Node node) {
+        return keyPrefix == null || prefix == prefixOf(node);
+    }
+
+    /**
+     * Returns the key prefix cached in a node, computing it for nodes of subclasses that do not cache it.
+     */
+    private long prefixOf(Node node) {
+        return node instanceof PrefixNode cached ? cached.prefix : prefixOf(node.value);
+    }
+
+    /**
+     * Returns the root node of the tree, for subclasses that walk the structure directly.
+     * 
+     * @return the root node, or null if the tree is empty
+     */
+    protected Node root() {
+        return root;
     }
 
     /**
@@ -30,22 +210,37 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
      * @return the height of the tree (the longest path from root to leaf), or -1 if the tree is empty
      */
     public int height() {
-        return heightRec(root);
+        return heightOf(root);
     }
 
     /**
-     * Recursive helper function to calculate the height of a subtree.
+     * Returns the stored height of a node.
      * 
      * @param node the root of the subtree
-     * @return the height of the subtree
+     * @return the height of the subtree, or -1 for an empty subtree
      */
-    private int heightRec(Node node) {
-        if (node == null) {
-            return -1;
-        }
-        int leftHeight = heightRec(node.left);
-        int rightHeight = heightRec(node.right);
-        return Math.max(leftHeight, rightHeight) + 1;
+    protected int heightOf(Node node) {
+        return node == null ? -1 : node.height;
+    }
+
+    /**
+     * Returns the stored number of nodes of a subtree.
+     * 
+     * @param node the root of the subtree
+     * @return the size of the subtree, or 0 for an empty subtree
+     */
+    protected int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Recomputes the height and subtree size of a node from those of its children.
+     * 
+     * @param node the node to update
+     */
+    protected void updateNode(Node node) {
+        node.height = Math.max(heightOf(node.left), heightOf(node.right)) + 1;
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
     }
 
     /**
@@ -54,27 +249,77 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
      * @return true if the tree is balanced, false otherwise
      */
     public boolean isBalanced() {
-        return isBalancedRec(root) != -1;
+        return isBalanced(root);
     }
 
     /**
-     * Recursive helper function to check if a subtree is balanced.
+     * Helper method that checks the balance of every node of a subtree using an explicit stack.
      * 
      * @param node the root of the subtree
-     * @return the height of the subtree if balanced, or -1 if unbalanced
+     * @return true if the subtree is balanced, false otherwise
      */
-    private int isBalancedRec(Node node) {
+    private boolean isBalanced(Node node) {
         if (node == null) {
-            return 0;
+            return true;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (Math.abs(heightOf(current.left) - heightOf(current.right)) > 1) {
+                return false;
+            }
+            if (current.left != null) stack.push(current.left);
+            if (current.right != null) stack.push(current.right);
         }
+        return true;
+    }
+
+    /**
+     * Checks if the tree is balanced, splitting the work across the common fork-join pool.
+     * Subtrees smaller than {@link #PARALLEL_THRESHOLD} nodes are checked sequentially.
+     * 
+     * @return true if the tree is balanced, false otherwise
+     */
+    public boolean parallelIsBalanced() {
+        return ForkJoinPool.commonPool().invoke(new BalanceTask(root));
+    }
+
+    /**
+     * Fork-join task checking the balance of a subtree. It walks down the larger child in a loop and
+     * forks the smaller one, so degenerate trees do not nest tasks deeper than O(log n).
+     */
+    private class BalanceTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
 
-        int leftHeight = isBalancedRec(node.left);
-        int rightHeight = isBalancedRec(node.right);
+        private final Node node;
 
-        if (leftHeight == -1 || rightHeight == -1 || Math.abs(leftHeight - rightHeight) > 1) {
-            return -1;
+        BalanceTask(Node node) {
+            this.node = node;
+        }
+
+        @Override
+        protected Boolean compute() {
+            List<BalanceTask> forked = new ArrayList<>();
+            Node current = node;
+            boolean balanced = true;
+            while (current != null && current.size >= PARALLEL_THRESHOLD) {
+                if (Math.abs(heightOf(current.left) - heightOf(current.right)) > 1) {
+                    balanced = false;
+                    break;
+                }
+                boolean leftLarger = sizeOf(current.left) >= sizeOf(current.right);
+                BalanceTask task = new BalanceTask(leftLarger ? current.right : current.left);
+                task.fork();
+                forked.add(task);
+                current = leftLarger ? current.left : current.right;
+            }
+            balanced = balanced && isBalanced(current);
+            for (BalanceTask task : forked) {
+                balanced &= task.join();
+            }
+            return balanced;
         }
-        return Math.max(leftHeight, rightHeight) + 1;
     }
 
     /**
@@ -83,27 +328,18 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
      * @param value the value to insert into the tree
      */
     public void insert(E value) {
-        root = insertRec(root, value);
+        insertNode(value);
     }
 
-     /**
-     * Recursive helper function to insert a value into a subtree.
+    /**
+     * Inserts a value unless it is already present and returns the node holding it, in a single descent.
+     * Subclasses that keep data in their nodes use it to find or create the node of a key at once.
      * 
-     * @param root the root of the subtree
-     * @param value the value to insert
-     * @return the root of the modified subtree
+     * @param value the value to insert into the tree
+     * @return the node holding the value, new or already in the tree
      */
-    private Node insertRec(Node root, E value) {
-        if (root == null) {
-            root = new Node(value);
-            return root;
-        }
-        if (value.compareTo(root.value) < 0) {
-            root.left = insertRec(root.left, value);
-        } else if (value.compareTo(root.value) > 0) {
-            root.right = insertRec(root.right, value);
-        }
-        return root;
+    protected Node insertNode(E value) {
+        return modifyNode(value, true, null);
     }
 
     /**
@@ -113,293 +349,1662 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
      * @return the node containing the value, or null if not found
      */
     public Node search(E value) {
-        return searchRec(root, value);
+        TreeMetrics metrics = this.metrics;
+        if (metrics != null) {
+            return instrumentedSearch(value, metrics);
+        }
+        Node current = root;
+        long prefix = prefixOf(value);
+        while (current != null) {
+            int cmp = compareTo(value, prefix, current);
+            if (cmp == 0) {
+                return current;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return null;
     }
 
     /**
-     * Recursive helper function to search for a value in a subtree.
-     * 
-     * @param root the root of the subtree
-     * @param value the value to search for
-     * @return the node containing the value, or null if not found
+     * Same descent as {@link #search(Object)}, recording its depth, comparisons and latency.
+     * Kept apart so the uninstrumented loop stays as small as possible.
      */
-    private Node searchRec(Node root, E value) {
-        if (root == null || root.value.equals(value)) {
-            return root;
+    private Node instrumentedSearch(E value, TreeMetrics metrics) {
+        long start = System.nanoTime();
+        Node current = root;
+        long prefix = prefixOf(value);
+        int depth = 0;
+        int comparisons = 0;
+        while (current != null) {
+            if (comparesKeys(prefix, current)) {
+                comparisons++;
+            }
+            int cmp = compareTo(value, prefix, current);
+            if (cmp == 0) {
+                break;
+            }
+            depth++;
+            current = cmp < 0 ? current.left : current.right;
         }
-        return value.compareTo(root.value) < 0 ? searchRec(root.left, value) : searchRec(root.right, value);
+        metrics.recordSearch(depth, comparisons, start);
+        return current;
     }
 
      /**
      * Deletes a value from the binary search tree, maintaining the BST property.
+     * A node with two children is replaced by its in-order successor node.
      * 
      * @param value the value to delete
      */
     public void delete(E value) {
-        root = deleteRec(root, value);
+        deleteNode(value);
     }
 
     /**
-     * Recursive helper function to delete a value from a subtree.
+     * Deletes a value from the tree and returns the node that held it, in a single descent.
+     * The returned node is already unlinked, but keeps its value and any data a subclass stores in it.
      * 
-     * @param root the root of the subtree
      * @param value the value to delete
-     * @return the root of the modified subtree
+     * @return the removed node, or null if the value was not in the tree
      */
-    private Node deleteRec(Node root, E value) {
-        if (root == null)
-            return root;
+    protected Node deleteNode(E value) {
+        return modifyNode(value, false, null);
+    }
 
-        if (value.compareTo(root.value) < 0) {
-            root.left = deleteRec(root.left, value);
-        } else if (value.compareTo(root.value) > 0) {
-            root.right = deleteRec(root.right, value);
+    /**
+     * Finds the node of a value in a single descent and inserts, changes or deletes it, so subclasses can
+     * update the data they keep in their nodes without descending twice.
+     * A missing value gets a node from {@link #newNode(Object)} when {@code insert} is true.
+     * Without a {@code change}, a present value is kept when {@code insert} is true and deleted otherwise.
+     * With one, {@code change} runs on a writable version of the node, which is then updated together with
+     * its ancestors; the node is deleted instead when {@code change} returns false.
+     * The descent is recorded as an insertion or a deletion depending on {@code insert}.
+     * 
+     * @param value the value to look for
+     * @param insert whether a missing value is inserted
+     * @param change the change to make to the node of a present value, or null
+     * @return the node holding the value, already unlinked if it was deleted, or null if it is not in the tree
+     */
+    protected Node modifyNode(E value, boolean insert, Predicate<? super Node> change) {
+        TreeMetrics metrics = this.metrics;
+        long start = metrics == null ? 0 : System.nanoTime();
+        Node current = root;
+        if (current == null && insert) {
+            // Rejects null and non-comparable values before they become the root.
+            compare(value, value);
+        }
+        long prefix = prefixOf(value);
+        int depth = 0;
+        int comparisons = 0;
+        int cmp = 0;
+        while (current != null) {
+            if (metrics != null && comparesKeys(prefix, current)) {
+                comparisons++;
+            }
+            cmp = compareTo(value, prefix, current);
+            if (cmp == 0) {
+                break;
+            }
+            pushPath(depth++, current);
+            current = cmp < 0 ? current.left : current.right;
+        }
+        Node result;
+        if (current == null) {
+            result = insert ? link(depth, cmp, value) : null;
+        } else if (change == null && insert) {
+            result = current;
         } else {
-            if (root.left == null)
-                return root.right;
-            else if (root.right == null)
-                return root.left;
-            root.value = findMin(root.right).value;
-            root.right = deleteRec(root.right, root.value);
+            checkMutable();
+            modCount++;
+            if (change != null) {
+                pushPath(depth, current);
+                claimPath(depth + 1);
+                current = path[depth];
+            }
+            if (change != null && change.test(current)) {
+                retrace(depth + 1);
+                result = current;
+            } else {
+                result = unlink(depth, current);
+            }
         }
-        return root;
+        if (metrics != null) {
+            if (insert) {
+                metrics.recordInsert(depth, comparisons, start);
+            } else {
+                metrics.recordDelete(depth, comparisons, start);
+            }
+        }
+        return result;
     }
 
     /**
-     * Performs an in-order traversal of the tree (left, root, right).
+     * Links a new node for a value below the node stored at {@code path[depth - 1]}, or as the root.
      * 
-     * @return a string representation of the tree in in-order
+     * @param depth the number of nodes stored in the path
+     * @param cmp the result of comparing the value with its parent
+     * @param value the value of the new node
+     * @return the new node
      */
-    public String inOrderTraversal() {
-        StringBuilder output = new StringBuilder();
-        inOrderRec(root, output);
-        return output.toString().trim();
+    private Node link(int depth, int cmp, E value) {
+        checkMutable();
+        Node node = newNode(value);
+        modCount++;
+        if (depth == 0) {
+            root = node;
+        } else {
+            claimPath(depth);
+            Node parent = path[depth - 1];
+            if (cmp < 0) {
+                parent.left = node;
+            } else {
+                parent.right = node;
+            }
+            retrace(depth);
+        }
+        return node;
     }
 
-    
     /**
-     * Recursive helper method to perform an in-order traversal.
+     * Unlinks a node found below the nodes stored in the path. A node with two children is replaced
+     * by its in-order successor node.
      * 
-     * @param root the root of the subtree
-     * @param output the string builder to collect values
+     * @param depth the number of nodes stored in the path
+     * @param current the node to unlink
+     * @return the unlinked node
      */
-    private void inOrderRec(Node root, StringBuilder output) {
-        if (root != null) {
-            inOrderRec(root.left, output);
-            output.append(root.value).append(" ");
-            inOrderRec(root.right, output);
+    private Node unlink(int depth, Node current) {
+        if (current.left == null || current.right == null) {
+            claimPath(depth);
+            replaceChild(depth, current, current.left != null ? current.left : current.right);
+        } else {
+            int nodeDepth = depth;
+            pushPath(depth++, current);
+            Node successor = current.right;
+            while (successor.left != null) {
+                pushPath(depth++, successor);
+                successor = successor.left;
+            }
+            claimPath(depth);
+            current = path[nodeDepth];
+            successor = own(successor);
+            Node successorParent = path[depth - 1];
+            if (successorParent == current) {
+                current.right = successor.right;
+            } else {
+                successorParent.left = successor.right;
+            }
+            successor.left = current.left;
+            successor.right = current.right;
+            replaceChild(nodeDepth, current, successor);
+            path[nodeDepth] = successor;
         }
+        if (current.epoch == epoch) {
+            current.left = current.right = null;
+        }
+        retrace(depth);
+        return current;
     }
 
-     /**
-     * Performs a pre-order traversal (root, left, right) of the tree.
+    /**
+     * Makes every node stored in the scratch path writable, copying the nodes shared with a snapshot
+     * and linking each copy to its (already writable) parent.
      * 
-     * @return a string representation of the tree
+     * @param depth the number of nodes stored in the path
      */
-    public String preOrderTraversal() {
-        StringBuilder output = new StringBuilder();
-        preOrderRec(root, output);
-        return output.toString().trim();
+    private void claimPath(int depth) {
+        for (int i = 0; i < depth; i++) {
+            Node node = path[i];
+            if (node.epoch != epoch) {
+                Node copy = own(node);
+                path[i] = copy;
+                replaceChild(i, node, copy);
+            }
+        }
     }
 
-     /**
-     * Recursive helper method to perform a pre-order traversal.
+    /**
+     * Returns a node that may be modified in place: the node itself, or a copy of it when it is
+     * shared with a snapshot. The caller is responsible for linking the copy into the tree.
      * 
-     * @param root the root of the subtree
-     * @param output the string builder to collect values
+     * @param node the node to modify
+     * @return a writable version of the node
      */
-    private void preOrderRec(Node root, StringBuilder output) {
-        if (root != null) {
-            output.append(root.value).append(" ");
-            preOrderRec(root.left, output);
-            preOrderRec(root.right, output);
-        }
+    protected Node own(Node node) {
+        return node.epoch == epoch ? node : copyNode(node);
     }
 
     /**
-     * Performs a post-order traversal (left, right, root) of the tree.
+     * Creates a node for a value, caching its key prefix when the tree has a key prefix function.
+     * Subclasses override it to create nodes that carry additional data; those nodes should extend
+     * {@link PrefixNode} if the subclass caches key prefixes, or every comparison recomputes the prefix.
      * 
-     * @return a string representation of the tree
+     * @param value the value of the node
+     * @return a new leaf node
      */
-    public String postOrderTraversal() {
-        StringBuilder output = new StringBuilder();
-        postOrderRec(root, output);
-        return output.toString().trim();
+    protected Node newNode(E value) {
+        return keyPrefix == null ? new Node(value) : new PrefixNode(value);
     }
 
     /**
-     * Recursive helper method to perform a post-order traversal.
+     * Creates a writable copy of a node with the same value, children, height and size.
+     * Subclasses that carry additional data in their nodes override it to copy that data too.
      * 
-     * @param root the root of the subtree
-     * @param output the string builder to collect values
+     * @param node the node to copy
+     * @return the copy
      */
-    private void postOrderRec(Node root, StringBuilder output) {
-        if (root != null) {
-            postOrderRec(root.left, output);
-            postOrderRec(root.right, output);
-            output.append(root.value).append(" ");
-        }
+    protected Node copyNode(Node node) {
+        Node copy = newNode(node.value);
+        copy.left = node.left;
+        copy.right = node.right;
+        copy.height = node.height;
+        copy.size = node.size;
+        return copy;
     }
 
     /**
-     * Performs a level-order traversal (breadth-first search) of the tree.
+     * Turns on the instrumentation of searches, insertions, deletions and rotations.
+     * Until it is called, every operation only pays a null check for it.
      * 
-     * @return a string representation of the tree in level order
+     * @return the metrics of the tree, new or already enabled
+     * @see TreeMetrics#register(String)
      */
-    public String levelOrderTraversal() {
-        if (root == null) return "";
-        Queue<Node> queue = new LinkedList<>();
-        StringBuilder output = new StringBuilder();
-        queue.add(root);
-        while (!queue.isEmpty()) {
-            Node current = queue.poll();
-            output.append(current.value).append(" ");
-            if (current.left != null) queue.add(current.left);
-            if (current.right != null) queue.add(current.right);
+    public TreeMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new TreeMetrics(this);
         }
-        return output.toString().trim();
+        return metrics;
     }
 
     /**
-     * Finds the node with the minimum value in the tree.
-     * 
-     * @return the node with the smallest value
+     * Turns off the instrumentation and unregisters its metrics from JMX.
      */
-    public Node findMin() {
-        return findMin(root);
+    public void disableMetrics() {
+        if (metrics != null) {
+            metrics.unregister();
+            metrics = null;
+        }
     }
 
     /**
-     * Recursive helper method to find the minimum value in a subtree.
+     * Returns the metrics of the tree.
      * 
-     * @param root the root of the subtree
-     * @return the node with the minimum value
+     * @return the metrics, or null while they are disabled
      */
-    private Node findMin(Node root) {
-        if (root == null || root.left == null)
-            return root;
-        return findMin(root.left);
+    public TreeMetrics metrics() {
+        return metrics;
     }
 
-    
     /**
-     * Finds the node with the maximum value in the tree.
+     * Returns an immutable view of the current contents of the tree in constant time.
+     * The snapshot shares all its nodes with this tree; later insertions and deletions copy only the
+     * nodes on the path they modify, so the snapshot never changes and is garbage-collected once unreferenced.
      * 
-     * @return the node with the largest value
+     * @return a read-only tree with the current elements
      */
-    public Node findMax() {
-        return findMax(root);
+    public BinarySearchTree<E> snapshot() {
+        if (immutable) {
+            return this;
+        }
+        epoch++;
+        BinarySearchTree<E> snapshot = new BinarySearchTree<>(comparator, keyPrefix);
+        snapshot.root = root;
+        snapshot.epoch = epoch;
+        snapshot.immutable = true;
+        return snapshot;
     }
 
-     /**
-     * Recursive helper method to find the maximum value in a subtree.
-     * 
-     * @param root the root of the subtree
-     * @return the node with the maximum value
+    /**
+     * Throws if the tree is a read-only snapshot.
      */
-    private Node findMax(Node root) {
-        if (root == null || root.right == null)
-            return root;
-        return findMax(root.right);
+    private void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("El árbol es una instantánea inmutable.");
+        }
     }
 
     /**
-     * Adds a value to the tree. This method is part of the List interface.
+     * Stores a node in the scratch path, growing it when needed.
      * 
-     * @param value the value to add
-     * @return true, as the value is always added to the tree
+     * @param depth the position of the node in the path
+     * @param node the node to store
      */
-    @Override
-    public boolean add(E value) {
-        insert(value);
-        return true;
+    private void pushPath(int depth, Node node) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth] = node;
     }
 
-    
     /**
-     * Checks if the tree contains a value.
+     * Replaces the child of the node stored at {@code path[depth - 1]} (or the root when depth is 0).
      * 
-     * @param o the value to check
-     * @return true if the tree contains the value, false otherwise
+     * @param depth the depth of the node being replaced
+     * @param oldChild the node currently linked
+     * @param newChild the node that takes its place
      */
-    @Override
-    public boolean contains(Object o) {
-        return search((E) o) != null;
+    private void replaceChild(int depth, Node oldChild, Node newChild) {
+        if (depth == 0) {
+            root = newChild;
+            return;
+        }
+        Node parent = path[depth - 1];
+        if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
     }
 
     /**
-     * Returns the number of nodes in the tree.
+     * Walks the scratch path bottom-up after a structural change, fixing every ancestor
+     * and relinking the subtrees that {@link #fixUp(Node)} replaced.
      * 
-     * @return the size of the tree
+     * @param depth the number of nodes stored in the path
      */
-    @Override
-    public int size() {
-        return countNodes(root);
+    private void retrace(int depth) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Node node = path[i];
+            path[i] = null;
+            Node fixed = fixUp(node);
+            if (fixed != node) {
+                replaceChild(i, node, fixed);
+            }
+        }
     }
 
     /**
-     * Recursive helper method to count the nodes in a subtree.
+     * Restores the invariants of a subtree after one of its children changed.
+     * Subclasses may override it to rebalance the subtree.
      * 
-     * @param root the root of the subtree
-     * @return the number of nodes in the subtree
+     * @param node the root of the subtree
+     * @return the root of the fixed subtree
      */
-    private int countNodes(Node root) {
-        if (root == null)
-            return 0;
-        return 1 + countNodes(root.left) + countNodes(root.right);
+    protected Node fixUp(Node node) {
+        updateNode(node);
+        return node;
     }
 
-
     /**
-     * Checks if the tree is empty.
+     * Performs an in-order traversal of the tree (left, root, right).
      * 
-     * @return true if the tree has no elements, false otherwise
+     * @return a string representation of the tree in in-order
      */
-    @Override
-    public boolean isEmpty() {
-        return root == null;
+    public String inOrderTraversal() {
+        return joinTraversal(TraversalOrder.IN_ORDER);
     }
 
-    /**
-     * Returns an iterator over the elements in this tree in ascending order.
+     /**
+     * Performs a pre-order traversal (root, left, right) of the tree.
      * 
-     * @return an iterator over the tree
+     * @return a string representation of the tree
      */
-    @Override
-    public Iterator<E> iterator() {
-        List<E> values = new LinkedList<>();
-        inOrderTraversalToList(root, values);
-        return values.iterator();
+    public String preOrderTraversal() {
+        return joinTraversal(TraversalOrder.PRE_ORDER);
     }
 
     /**
-     * Helper method to collect the values from an in-order traversal into a list.
+     * Performs a post-order traversal (left, right, root) of the tree.
      * 
-     * @param node the root of the subtree
-     * @param values the list to collect the values
+     * @return a string representation of the tree
      */
-    private void inOrderTraversalToList(Node node, List<E> values) {
-        if (node != null) {
-            inOrderTraversalToList(node.left, values);
-            values.add(node.value);
-            inOrderTraversalToList(node.right, values);
-        }
+    public String postOrderTraversal() {
+        return joinTraversal(TraversalOrder.POST_ORDER);
     }
 
     /**
-     * Converts the elements of the tree into an array.
+     * Performs a level-order traversal (breadth-first search) of the tree.
      * 
-     * @return an array containing the tree elements in ascending order
+     * @return a string representation of the tree in level order
      */
-    @Override
-    public Object[] toArray() {
-        List<E> values = new LinkedList<>();
-        inOrderTraversalToList(root, values);
-        return values.toArray();
+    public String levelOrderTraversal() {
+        return joinTraversal(TraversalOrder.LEVEL_ORDER);
     }
 
     /**
-     * Converts the elements of the tree into an array of a specified type.
+     * Helper method that joins the values of a traversal with single spaces.
+     * 
+     * @param order the traversal order
+     * @return the values separated by spaces
+     */
+    private String joinTraversal(TraversalOrder order) {
+        StringBuilder output = new StringBuilder();
+        traverse(order, value -> {
+            if (output.length() > 0) {
+                output.append(' ');
+            }
+            output.append(value);
+            return true;
+        });
+        return output.toString();
+    }
+
+    /**
+     * Visits the elements in the given order until the visitor asks to stop.
+     * Depth-first orders use O(height) memory and level order uses O(width) memory.
+     * 
+     * @param order the traversal order
+     * @param visitor called with each element; returning false stops the traversal
+     * @return true if every element was visited, false if the visitor stopped early
+     */
+    public boolean traverse(TraversalOrder order, Predicate<? super E> visitor) {
+        Iterator<E> iterator = traversalIterator(order);
+        while (iterator.hasNext()) {
+            if (!visitor.test(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls an action for every element, in the given order.
+     * 
+     * @param order the traversal order
+     * @param action the action to run for each element
+     */
+    public void forEach(TraversalOrder order, Consumer<? super E> action) {
+        traverse(order, value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    /**
+     * Returns a lazy stream of the elements in the given order. Nodes are visited only as the stream
+     * pulls them, so short-circuiting operations such as {@code findFirst} or {@code limit} stop the traversal.
+     * 
+     * @param order the traversal order
+     * @return a sequential stream over the tree
+     */
+    public Stream<E> stream(TraversalOrder order) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        if (order == TraversalOrder.IN_ORDER) {
+            characteristics |= Spliterator.SORTED;
+        }
+        return StreamSupport.stream(Spliterators.spliterator(traversalIterator(order), size(), characteristics), false);
+    }
+
+    /**
+     * Returns a lazy iterator that visits the elements in the given order.
+     * 
+     * @param order the traversal order
+     * @return an iterator over the tree
+     */
+    public Iterator<E> traversalIterator(TraversalOrder order) {
+        return order == TraversalOrder.IN_ORDER ? new TreeIterator() : new OrderIterator(order);
+    }
+
+    /**
+     * Lazy pre-order, post-order or level-order iterator. Depth-first orders keep a stack of pending
+     * nodes; level order keeps an {@link ArrayDeque} holding at most two levels of the tree.
+     */
+    private class OrderIterator implements Iterator<E> {
+        private final TraversalOrder order;
+        private final ArrayDeque<Node> pending = new ArrayDeque<>();
+        private final int expectedModCount = modCount;
+        private Node current;
+        private Node lastVisited;
+        private Node next;
+
+        OrderIterator(TraversalOrder order) {
+            this.order = order;
+            if (order == TraversalOrder.POST_ORDER) {
+                current = root;
+                next = advancePostOrder();
+            } else if (root != null) {
+                pending.add(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return order == TraversalOrder.POST_ORDER ? next != null : !pending.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node node;
+            switch (order) {
+                case PRE_ORDER:
+                    node = pending.pop();
+                    if (node.right != null) pending.push(node.right);
+                    if (node.left != null) pending.push(node.left);
+                    break;
+                case LEVEL_ORDER:
+                    node = pending.poll();
+                    if (node.left != null) pending.add(node.left);
+                    if (node.right != null) pending.add(node.right);
+                    break;
+                default:
+                    node = next;
+                    next = advancePostOrder();
+            }
+            return node.value;
+        }
+
+        /**
+         * Finds the next node in post-order, descending to the leftmost unvisited leaf.
+         */
+        private Node advancePostOrder() {
+            while (current != null || !pending.isEmpty()) {
+                if (current != null) {
+                    pending.push(current);
+                    current = current.left;
+                } else {
+                    Node top = pending.peek();
+                    if (top.right != null && top.right != lastVisited) {
+                        current = top.right;
+                    } else {
+                        lastVisited = pending.pop();
+                        return lastVisited;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds the node with the minimum value in the tree.
+     * 
+     * @return the node with the smallest value
+     */
+    public Node findMin() {
+        return findMin(root);
+    }
+
+    /**
+     * Helper method to find the minimum value in a subtree by following left links.
+     * 
+     * @param root the root of the subtree
+     * @return the node with the minimum value
+     */
+    private Node findMin(Node root) {
+        if (root == null)
+            return null;
+        while (root.left != null)
+            root = root.left;
+        return root;
+    }
+
+    
+    /**
+     * Finds the node with the maximum value in the tree.
+     * 
+     * @return the node with the largest value
+     */
+    public Node findMax() {
+        return findMax(root);
+    }
+
+     /**
+     * Helper method to find the maximum value in a subtree by following right links.
+     * 
+     * @param root the root of the subtree
+     * @return the node with the maximum value
+     */
+    private Node findMax(Node root) {
+        if (root == null)
+            return null;
+        while (root.right != null)
+            root = root.right;
+        return root;
+    }
+
+    /**
+     * Returns the greatest element strictly less than the given value.
+     * 
+     * @param value the value to compare with
+     * @return the greatest smaller element, or null if there is none
+     */
+    @Override
+    public E lower(E value) {
+        Node node = closest(value, false, false);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the given value.
+     * 
+     * @param value the value to compare with
+     * @return the greatest element not greater than the value, or null if there is none
+     */
+    @Override
+    public E floor(E value) {
+        Node node = closest(value, false, true);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the smallest element greater than or equal to the given value.
+     * 
+     * @param value the value to compare with
+     * @return the smallest element not less than the value, or null if there is none
+     */
+    @Override
+    public E ceiling(E value) {
+        Node node = closest(value, true, true);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the smallest element strictly greater than the given value.
+     * 
+     * @param value the value to compare with
+     * @return the smallest greater element, or null if there is none
+     */
+    @Override
+    public E higher(E value) {
+        Node node = closest(value, true, false);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Helper method that finds the nearest node to a value in a single descent.
+     * 
+     * @param value the value to compare with
+     * @param above whether to look for nodes above the value (ceiling/higher) or below it (floor/lower)
+     * @param inclusive whether a node equal to the value qualifies
+     * @return the nearest qualifying node, or null if there is none
+     */
+    private Node closest(E value, boolean above, boolean inclusive) {
+        Node current = root;
+        Node best = null;
+        long prefix = prefixOf(value);
+        while (current != null) {
+            int cmp = compareTo(value, prefix, current);
+            if (cmp == 0 && inclusive) {
+                return current;
+            }
+            if (above ? cmp < 0 : cmp > 0) {
+                best = current;
+                current = above ? current.left : current.right;
+            } else {
+                current = above ? current.right : current.left;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the elements smaller than a value (or not greater than it, when inclusive).
+     * 
+     * @param value the value to compare with
+     * @param inclusive whether an element equal to the value is counted
+     * @return the number of elements below the value
+     */
+    private int rank(E value, boolean inclusive) {
+        Node current = root;
+        long prefix = prefixOf(value);
+        int rank = 0;
+        while (current != null) {
+            int cmp = compareTo(value, prefix, current);
+            if (cmp < 0 || (cmp == 0 && !inclusive)) {
+                current = current.left;
+            } else {
+                rank += sizeOf(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Checks whether a value lies above an upper bound.
+     */
+    private boolean tooHigh(E value, E hi, boolean hiInclusive) {
+        int cmp = compare(value, hi);
+        return cmp > 0 || (cmp == 0 && !hiInclusive);
+    }
+
+    /**
+     * Checks whether a value lies below a lower bound.
+     */
+    private boolean tooLow(E value, E lo, boolean loInclusive) {
+        int cmp = compare(value, lo);
+        return cmp < 0 || (cmp == 0 && !loInclusive);
+    }
+
+    /**
+     * Returns the smallest element of the tree.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the tree is empty
+     */
+    @Override
+    public E first() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return findMin().value;
+    }
+
+    /**
+     * Returns the largest element of the tree.
+     * 
+     * @return the last element
+     * @throws NoSuchElementException if the tree is empty
+     */
+    @Override
+    public E last() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return findMax().value;
+    }
+
+    /**
+     * Removes and returns the smallest element of the tree.
+     * 
+     * @return the removed element, or null if the tree is empty
+     */
+    @Override
+    public E pollFirst() {
+        if (root == null) {
+            return null;
+        }
+        E value = findMin().value;
+        delete(value);
+        return value;
+    }
+
+    /**
+     * Removes and returns the largest element of the tree.
+     * 
+     * @return the removed element, or null if the tree is empty
+     */
+    @Override
+    public E pollLast() {
+        if (root == null) {
+            return null;
+        }
+        E value = findMax().value;
+        delete(value);
+        return value;
+    }
+
+    /**
+     * Returns the comparator used to order the elements.
+     * 
+     * @return the comparator, or null if the tree uses the natural ordering of its elements
+     */
+    @Override
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns a live view of the elements in descending order.
+     * 
+     * @return a reverse-order view of the tree
+     */
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return new DescendingSet<>(this);
+    }
+
+    /**
+     * Returns a live view of the elements between two values.
+     * 
+     * @param fromElement the low endpoint of the view
+     * @param fromInclusive whether the low endpoint is included
+     * @param toElement the high endpoint of the view
+     * @param toInclusive whether the high endpoint is included
+     * @return a view of the given range
+     * @throws IllegalArgumentException if fromElement is greater than toElement
+     */
+    @Override
+    public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        if (compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("El límite inferior es mayor que el límite superior.");
+        }
+        return new SubSet(fromElement, fromInclusive, toElement, toInclusive);
+    }
+
+    /**
+     * Returns a live view of the elements less than (or equal to, if inclusive) a value.
+     * 
+     * @param toElement the high endpoint of the view
+     * @param inclusive whether the high endpoint is included
+     * @return a view of the given range
+     */
+    @Override
+    public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+        return new SubSet(null, false, Objects.requireNonNull(toElement), inclusive);
+    }
+
+    /**
+     * Returns a live view of the elements greater than (or equal to, if inclusive) a value.
+     * 
+     * @param fromElement the low endpoint of the view
+     * @param inclusive whether the low endpoint is included
+     * @return a view of the given range
+     */
+    @Override
+    public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+        return new SubSet(Objects.requireNonNull(fromElement), inclusive, null, false);
+    }
+
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    /**
+     * Returns a spliterator over the elements in ascending order. It splits at subtree boundaries
+     * using the stored subtree sizes, so parallel streams get exact sizes without copying the elements.
+     * 
+     * @return a spliterator over the tree
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new TreeSpliterator(0, size());
+    }
+
+    /**
+     * Spliterator over a range of ranks [from, to). Until it starts advancing, it splits at the rank of
+     * the highest node inside the range, which separates a left subtree from the rest; once started it
+     * walks in order with a stack seeded by a single descent to its first rank.
+     */
+    private class TreeSpliterator implements Spliterator<E> {
+        private int from;
+        private final int to;
+        private final int expectedModCount = modCount;
+        private Deque<Node> stack;
+
+        TreeSpliterator(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (stack != null || to - from < 2) {
+                return null;
+            }
+            int split = splitRank();
+            if (split <= from || split >= to) {
+                split = (from + to) >>> 1;
+            }
+            TreeSpliterator prefix = new TreeSpliterator(from, split);
+            from = split;
+            return prefix;
+        }
+
+        /**
+         * Finds the rank of the highest node strictly inside the range, so that both halves are non-empty
+         * and the prefix ends at a subtree boundary.
+         */
+        private int splitRank() {
+            Node current = root;
+            int offset = 0;
+            while (current != null) {
+                int rank = offset + sizeOf(current.left);
+                if (to <= rank) {
+                    current = current.left;
+                } else if (from >= rank) {
+                    offset = rank + 1;
+                    current = current.right;
+                } else {
+                    return rank;
+                }
+            }
+            return from;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (from >= to) {
+                return false;
+            }
+            if (stack == null) {
+                seek();
+            }
+            Node node = stack.pop();
+            Node current = node.right;
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            from++;
+            action.accept(node.value);
+            return true;
+        }
+
+        /**
+         * Builds the in-order stack so that its top is the node of rank {@code from}.
+         */
+        private void seek() {
+            stack = new ArrayDeque<>();
+            Node current = root;
+            int rank = from;
+            while (current != null) {
+                int leftSize = sizeOf(current.left);
+                if (rank < leftSize) {
+                    stack.push(current);
+                    current = current.left;
+                } else if (rank > leftSize) {
+                    rank -= leftSize + 1;
+                    current = current.right;
+                } else {
+                    stack.push(current);
+                    current = null;
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                    | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            return comparator();
+        }
+    }
+
+    /**
+     * A live view of the elements between two optional bounds. A null bound means the range is open on that side.
+     * Every navigation method is a single descent of the tree, and the size is computed from two rank queries.
+     */
+    private class SubSet extends AbstractSet<E> implements NavigableSet<E> {
+        private final E lo;
+        private final boolean loInclusive;
+        private final E hi;
+        private final boolean hiInclusive;
+
+        SubSet(E lo, boolean loInclusive, E hi, boolean hiInclusive) {
+            this.lo = lo;
+            this.loInclusive = loInclusive;
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+        }
+
+        private boolean belowRange(E value) {
+            return lo != null && tooLow(value, lo, loInclusive);
+        }
+
+        private boolean aboveRange(E value) {
+            return hi != null && tooHigh(value, hi, hiInclusive);
+        }
+
+        private boolean inRange(E value) {
+            return !belowRange(value) && !aboveRange(value);
+        }
+
+        /**
+         * Checks whether a bound for a nested view lies inside this view. An exclusive bound may
+         * coincide with an exclusive bound of this view.
+         */
+        private boolean inRange(E value, boolean inclusive) {
+            return inclusive ? inRange(value)
+                    : (lo == null || !tooLow(value, lo, true)) && (hi == null || !tooHigh(value, hi, true));
+        }
+
+        private E firstOrNull() {
+            E value = lo == null ? (root == null ? null : findMin().value) : (loInclusive ? BinarySearchTree.this.ceiling(lo) : BinarySearchTree.this.higher(lo));
+            return value == null || aboveRange(value) ? null : value;
+        }
+
+        private E lastOrNull() {
+            E value = hi == null ? (root == null ? null : findMax().value) : (hiInclusive ? BinarySearchTree.this.floor(hi) : BinarySearchTree.this.lower(hi));
+            return value == null || belowRange(value) ? null : value;
+        }
+
+        @Override
+        public int size() {
+            int upper = hi == null ? BinarySearchTree.this.size() : rank(hi, hiInclusive);
+            int lower = lo == null ? 0 : rank(lo, !loInclusive);
+            return Math.max(0, upper - lower);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return firstOrNull() == null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            E value = (E) o;
+            return inRange(value) && search(value) != null;
+        }
+
+        @Override
+        public boolean add(E value) {
+            if (!inRange(value)) {
+                throw new IllegalArgumentException("El valor está fuera del rango de la vista.");
+            }
+            int before = BinarySearchTree.this.size();
+            insert(value);
+            return BinarySearchTree.this.size() != before;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            delete((E) o);
+            return true;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new TreeIterator(lo, loInclusive, hi, hiInclusive);
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            ListIterator<E> iterator = listIterator(hi == null ? BinarySearchTree.this.size() : rank(hi, hiInclusive));
+            int lowestRank = lo == null ? 0 : rank(lo, !loInclusive);
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.previousIndex() >= lowestRank;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.previous();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public E lower(E value) {
+            if (aboveRange(value)) {
+                return lastOrNull();
+            }
+            E result = BinarySearchTree.this.lower(value);
+            return result == null || belowRange(result) ? null : result;
+        }
+
+        @Override
+        public E floor(E value) {
+            if (aboveRange(value)) {
+                return lastOrNull();
+            }
+            E result = BinarySearchTree.this.floor(value);
+            return result == null || belowRange(result) ? null : result;
+        }
+
+        @Override
+        public E ceiling(E value) {
+            if (belowRange(value)) {
+                return firstOrNull();
+            }
+            E result = BinarySearchTree.this.ceiling(value);
+            return result == null || aboveRange(result) ? null : result;
+        }
+
+        @Override
+        public E higher(E value) {
+            if (belowRange(value)) {
+                return firstOrNull();
+            }
+            E result = BinarySearchTree.this.higher(value);
+            return result == null || aboveRange(result) ? null : result;
+        }
+
+        @Override
+        public E first() {
+            E value = firstOrNull();
+            if (value == null) {
+                throw new NoSuchElementException();
+            }
+            return value;
+        }
+
+        @Override
+        public E last() {
+            E value = lastOrNull();
+            if (value == null) {
+                throw new NoSuchElementException();
+            }
+            return value;
+        }
+
+        @Override
+        public E pollFirst() {
+            E value = firstOrNull();
+            if (value != null) {
+                delete(value);
+            }
+            return value;
+        }
+
+        @Override
+        public E pollLast() {
+            E value = lastOrNull();
+            if (value != null) {
+                delete(value);
+            }
+            return value;
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            return BinarySearchTree.this.comparator();
+        }
+
+        @Override
+        public NavigableSet<E> descendingSet() {
+            return new DescendingSet<>(this);
+        }
+
+        @Override
+        public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+            if (compare(fromElement, toElement) > 0) {
+                throw new IllegalArgumentException("El límite inferior es mayor que el límite superior.");
+            }
+            if (!inRange(fromElement, fromInclusive) || !inRange(toElement, toInclusive)) {
+                throw new IllegalArgumentException("El valor está fuera del rango de la vista.");
+            }
+            return new SubSet(fromElement, fromInclusive, toElement, toInclusive);
+        }
+
+        @Override
+        public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+            if (!inRange(toElement, inclusive)) {
+                throw new IllegalArgumentException("El valor está fuera del rango de la vista.");
+            }
+            return new SubSet(lo, loInclusive, toElement, inclusive);
+        }
+
+        @Override
+        public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+            if (!inRange(fromElement, inclusive)) {
+                throw new IllegalArgumentException("El valor está fuera del rango de la vista.");
+            }
+            return new SubSet(fromElement, inclusive, hi, hiInclusive);
+        }
+
+        @Override
+        public SortedSet<E> subSet(E fromElement, E toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        @Override
+        public SortedSet<E> headSet(E toElement) {
+            return headSet(toElement, false);
+        }
+
+        @Override
+        public SortedSet<E> tailSet(E fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+
+    /**
+     * Adds a value to the tree. Duplicate values are ignored, as in a set.
+     * 
+     * @param value the value to add
+     * @return true if the value was not already in the tree
+     */
+    @Override
+    public boolean add(E value) {
+        int before = size();
+        insert(value);
+        return size() != before;
+    }
+
+    
+    /**
+     * Checks if the tree contains a value.
+     * 
+     * @param o the value to check
+     * @return true if the tree contains the value, false otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return search((E) o) != null;
+    }
+
+    /**
+     * Returns the number of nodes in the tree in constant time, read from the size stored at the root.
+     * 
+     * @return the size of the tree
+     */
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Checks if the tree is empty.
+     * 
+     * @return true if the tree has no elements, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns an iterator over the elements in this tree in ascending order.
+     * The iterator walks the tree lazily, holding only the path to the next node, supports
+     * {@link Iterator#remove()} and fails fast if the tree is structurally modified by other means.
+     * 
+     * @return an iterator over the tree
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator();
+    }
+
+    /**
+     * Returns an iterator over the nodes of the tree in ascending order, with the same laziness,
+     * removal support and fail-fast behavior as {@link #iterator()}.
+     * 
+     * @return an iterator over the nodes
+     */
+    protected Iterator<Node> nodeIterator() {
+        return nodeIterator(new TreeIterator());
+    }
+
+    /**
+     * Returns an iterator over the nodes whose values are greater than (or equal to, when inclusive)
+     * a lower bound, in ascending order. It starts with a single descent to the bound.
+     * 
+     * @param from the lower bound
+     * @param inclusive whether a node holding the bound itself is included
+     * @return an iterator over the nodes from the bound
+     */
+    protected Iterator<Node> nodeIterator(E from, boolean inclusive) {
+        return nodeIterator(new TreeIterator(from, inclusive, null, false));
+    }
+
+    private Iterator<Node> nodeIterator(TreeIterator iterator) {
+        return new Iterator<Node>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Node next() {
+                return iterator.nextNode();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Lazy in-order iterator backed by an explicit stack of the pending ancestors of the next node.
+     * It can be limited to a range of values, in which case it starts with a single descent to the
+     * lower bound and stops at the upper bound.
+     */
+    private class TreeIterator implements Iterator<E> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+        private final E hi;
+        private final boolean hiInclusive;
+        private Node lastReturned;
+        private int expectedModCount = modCount;
+
+        TreeIterator() {
+            this.hi = null;
+            this.hiInclusive = false;
+            pushLeftSpine(root);
+        }
+
+        /**
+         * @param lo the lower bound, or null to start at the first element
+         * @param loInclusive whether the lower bound itself is included
+         * @param hi the upper bound, or null to run to the last element
+         * @param hiInclusive whether the upper bound itself is included
+         */
+        TreeIterator(E lo, boolean loInclusive, E hi, boolean hiInclusive) {
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            if (lo == null) {
+                pushLeftSpine(root);
+            } else {
+                seek(lo, loInclusive);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty() && (hi == null || !tooHigh(stack.peek().value, hi, hiInclusive));
+        }
+
+        @Override
+        public E next() {
+            return nextNode().value;
+        }
+
+        Node nextNode() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            pushLeftSpine(node.right);
+            lastReturned = node;
+            return node;
+        }
+
+        /**
+         * Removes the last returned element from the tree. Deleting may restructure the tree,
+         * so the pending path is rebuilt by descending to the first element greater than the removed one.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            E removed = lastReturned.value;
+            delete(removed);
+            lastReturned = null;
+            expectedModCount = modCount;
+            seek(removed, false);
+        }
+
+        /**
+         * Rebuilds the pending path so that the next element is the first one greater than
+         * (or equal to, when inclusive) the given value.
+         */
+        private void seek(E value, boolean inclusive) {
+            stack.clear();
+            Node current = root;
+            long prefix = prefixOf(value);
+            while (current != null) {
+                int cmp = compareTo(value, prefix, current);
+                if (cmp < 0 || (inclusive && cmp == 0)) {
+                    stack.push(current);
+                    current = current.left;
+                } else {
+                    current = current.right;
+                }
+            }
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns a bidirectional iterator over the elements in ascending order, starting at the first element.
+     * 
+     * @return a list iterator over the tree
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a bidirectional iterator over the elements in ascending order, starting at the given rank.
+     * Consecutive calls to {@code next()} and {@code previous()} take amortized constant time.
+     * 
+     * @param index the rank of the first element returned by {@code next()}
+     * @return a list iterator over the tree
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size() + 1);
+        return new TreeListIterator(index);
+    }
+
+    /**
+     * Returns an iterator over the elements in descending order.
+     * 
+     * @return an iterator from the largest to the smallest element
+     */
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> iterator = listIterator(size());
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Bidirectional iterator that keeps the root-to-cursor path, so moving to the successor or
+     * predecessor only touches the nodes between them. The cursor path is empty when it is past the last element.
+     */
+    private class TreeListIterator implements ListIterator<E> {
+        private final ArrayList<Node> cursor = new ArrayList<>();
+        private int index;
+        private Node lastReturned;
+        private int expectedModCount = modCount;
+
+        TreeListIterator(int index) {
+            seek(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node node = top();
+            lastReturned = node;
+            if (node.right != null) {
+                pushSpine(node.right, true);
+            } else {
+                Node child;
+                do {
+                    child = cursor.remove(cursor.size() - 1);
+                } while (!cursor.isEmpty() && top().left != child);
+            }
+            index++;
+            return node.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            if (cursor.isEmpty()) {
+                pushSpine(root, false);
+            } else if (top().left != null) {
+                pushSpine(top().left, false);
+            } else {
+                Node child;
+                do {
+                    child = cursor.remove(cursor.size() - 1);
+                } while (top().right != child);
+            }
+            index--;
+            lastReturned = top();
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        /**
+         * Removes the last returned element from the tree and repositions the cursor by rank,
+         * since deleting may restructure the tree.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (indexOf(lastReturned.value) < index) {
+                index--;
+            }
+            delete(lastReturned.value);
+            lastReturned = null;
+            expectedModCount = modCount;
+            seek(index);
+        }
+
+        @Override
+        public void set(E e) {
+            throw new UnsupportedOperationException("El método set no es soportado en un árbol binario.");
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException("El método add con índice no es soportado en un árbol binario.");
+        }
+
+        /**
+         * Rebuilds the cursor path so that it ends at the node of the given rank.
+         */
+        private void seek(int rank) {
+            cursor.clear();
+            index = rank;
+            Node current = rank < size() ? root : null;
+            while (current != null) {
+                cursor.add(current);
+                int leftSize = sizeOf(current.left);
+                if (rank < leftSize) {
+                    current = current.left;
+                } else if (rank > leftSize) {
+                    rank -= leftSize + 1;
+                    current = current.right;
+                } else {
+                    current = null;
+                }
+            }
+        }
+
+        /**
+         * Pushes a node and then follows its left (or right) links down to the end of the spine.
+         */
+        private void pushSpine(Node node, boolean leftward) {
+            while (node != null) {
+                cursor.add(node);
+                node = leftward ? node.left : node.right;
+            }
+        }
+
+        private Node top() {
+            return cursor.get(cursor.size() - 1);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method to copy the values of an in-order traversal into an array.
+     * 
+     * @param values the array to fill, with room for at least {@link #size()} elements
+     */
+    private void inOrderTraversalToArray(Object[] values) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node current = root;
+        int index = 0;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            current = stack.pop();
+            values[index++] = current.value;
+            current = current.right;
+        }
+    }
+
+    /**
+     * Converts the elements of the tree into an array.
+     * 
+     * @return an array containing the tree elements in ascending order
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] values = new Object[size()];
+        inOrderTraversalToArray(values);
+        return values;
+    }
+
+    /**
+     * Converts the elements of the tree into an array of a specified type.
      * 
      * @param <T> the runtime type of the array to contain the elements
      * @param a the array into which the elements will be stored
@@ -407,74 +2012,594 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
      */
     @Override
     public <T> T[] toArray(T[] a) {
-        List<E> values = new LinkedList<>();
-        inOrderTraversalToList(root, values);
-        return values.toArray(a);
+        int size = size();
+        T[] values = a.length >= size ? a : Arrays.copyOf(a, size);
+        inOrderTraversalToArray(values);
+        if (values.length > size) {
+            values[size] = null;
+        }
+        return values;
     }
 
-    // The following List interface methods are not supported by the Binary Search Tree
+    /**
+     * Builds a minimum-height tree from a collection in linear time when it is already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param <E> the type of the elements
+     * @param values the values to load
+     * @return a balanced tree holding the distinct values
+     */
+    public static <E extends Comparable<E>> BinarySearchTree<E> fromSorted(Collection<? extends E> values) {
+        BinarySearchTree<E> tree = new BinarySearchTree<>();
+        tree.load(values.toArray());
+        return tree;
+    }
 
-    @Override
-    public E get(int index) {
-        throw new UnsupportedOperationException("El método get con índice no es soportado en un árbol binario.");
+    /**
+     * Builds a minimum-height tree from an array in linear time when it is already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param <E> the type of the elements
+     * @param values the values to load
+     * @return a balanced tree holding the distinct values
+     */
+    @SafeVarargs
+    public static <E extends Comparable<E>> BinarySearchTree<E> fromSorted(E... values) {
+        BinarySearchTree<E> tree = new BinarySearchTree<>();
+        Object[] copy = new Object[values.length];
+        // Copied element by element so that the varargs array itself never escapes.
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = values[i];
+        }
+        tree.load(copy);
+        return tree;
     }
 
-    @Override
-    public E set(int index, E element) {
-        throw new UnsupportedOperationException("El método set con índice no es soportado en un árbol binario.");
+    /**
+     * Builds a minimum-height tree from a stream in linear time when it is already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param <E> the type of the elements
+     * @param values the values to load
+     * @return a balanced tree holding the distinct values
+     */
+    public static <E extends Comparable<E>> BinarySearchTree<E> fromSorted(Stream<? extends E> values) {
+        BinarySearchTree<E> tree = new BinarySearchTree<>();
+        tree.load(values.toArray());
+        return tree;
+    }
+
+    /**
+     * Replaces the contents of the tree with the given values, building a minimum-height tree.
+     * 
+     * @param values the values to load; the array may be reordered
+     */
+    protected void load(Object[] values) {
+        rebuild(values, sortDistinct(values));
+    }
+
+    /**
+     * Sorts an array in place, unless it is already in ascending order, and moves the distinct values to its front.
+     * 
+     * @param values the values to sort
+     * @return the number of distinct values
+     */
+    @SuppressWarnings("unchecked")
+    private int sortDistinct(Object[] values) {
+        boolean sorted = true;
+        for (int i = 1; i < values.length && sorted; i++) {
+            sorted = compare((E) values[i - 1], (E) values[i]) <= 0;
+        }
+        if (!sorted) {
+            Arrays.sort(values, (Comparator<Object>) comparator);
+        }
+        int count = 0;
+        for (Object value : values) {
+            if (count == 0 || compare((E) values[count - 1], (E) value) != 0) {
+                values[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the whole tree with a minimum-height tree built from sorted, distinct values.
+     * 
+     * @param values the sorted values
+     * @param count the number of values to use from the front of the array
+     */
+    private void rebuild(Object[] values, int count) {
+        checkMutable();
+        modCount++;
+        root = build(values, 0, count - 1);
+    }
+
+    /**
+     * Helper method to build a subtree from a sorted range, taking the middle value as its root.
+     * The recursion depth is logarithmic in the number of values.
+     * 
+     * @param values the sorted values
+     * @param low the first index of the range
+     * @param high the last index of the range
+     * @return the root of the subtree, or null if the range is empty
+     */
+    @SuppressWarnings("unchecked")
+    private Node build(Object[] values, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int middle = (low + high) >>> 1;
+        Node node = newNode((E) values[middle]);
+        node.left = build(values, low, middle - 1);
+        node.right = build(values, middle + 1, high);
+        updateNode(node);
+        return node;
+    }
+
+    /**
+     * Replaces the contents of the tree with the exact shape described by a pre-order sequence of distinct values.
+     * Each value is attached in amortized constant time using a stack of the nodes still waiting for a right child,
+     * and heights and sizes are then restored bottom-up, so the whole load takes linear time without recursion.
+     * Every value must also be greater than the last node it climbed past, which is the lower bound of the
+     * right subtree it goes into; a sequence that breaks it is rejected and leaves the tree empty.
+     *
+     * @param values the values in pre-order
+     * @throws IllegalArgumentException if the sequence contains duplicates or is not the pre-order of a binary
+     *         search tree under the tree's ordering
+     */
+    @SuppressWarnings("unchecked")
+    protected void loadPreOrder(Object[] values) {
+        checkMutable();
+        modCount++;
+        root = null;
+        if (values.length == 0) {
+            return;
+        }
+        Node[] nodes = (Node[]) new BinarySearchTree<?>.Node[values.length];
+        ArrayDeque<Node> open = new ArrayDeque<>();
+        Node lowerBound = null;
+        for (int i = 0; i < values.length; i++) {
+            Node node = newNode((E) values[i]);
+            nodes[i] = node;
+            long prefix = prefixOf(node);
+            if (lowerBound != null && compareTo(node.value, prefix, lowerBound) <= 0) {
+                throw new IllegalArgumentException("El recorrido en preorden no corresponde a un árbol binario de búsqueda.");
+            }
+            Node parent = null;
+            while (!open.isEmpty()) {
+                int cmp = compareTo(node.value, prefix, open.peek());
+                if (cmp == 0) {
+                    throw new IllegalArgumentException("El recorrido en preorden contiene valores duplicados.");
+                }
+                if (cmp < 0) {
+                    break;
+                }
+                parent = open.pop();
+            }
+            if (parent != null) {
+                parent.right = node;
+                lowerBound = parent;
+            } else if (!open.isEmpty()) {
+                open.peek().left = node;
+            }
+            open.push(node);
+        }
+        // Children always follow their parent in pre-order, so a reverse sweep updates them first.
+        for (int i = nodes.length - 1; i >= 0; i--) {
+            updateNode(nodes[i]);
+        }
+        root = nodes[0];
     }
 
+    /**
+     * Returns the element at the given position in ascending order, using the subtree sizes
+     * to descend directly to it.
+     * 
+     * @param index the rank of the element, starting at 0
+     * @return the element at that rank
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
     @Override
-    public void add(int index, E element) {
-        throw new UnsupportedOperationException("El método add con índice no es soportado en un árbol binario.");
+    public E get(int index) {
+        return nodeAt(index).value;
+    }
+
+    /**
+     * Helper method to find the node holding the element of a given rank.
+     * 
+     * @param index the rank of the element, starting at 0
+     * @return the node at that rank
+     */
+    private Node nodeAt(int index) {
+        Objects.checkIndex(index, size());
+        Node current = root;
+        while (true) {
+            int leftSize = sizeOf(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
     }
 
+    /**
+     * Removes the element at the given position in ascending order.
+     * 
+     * @param index the rank of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
     @Override
     public E remove(int index) {
-        throw new UnsupportedOperationException("El método remove con índice no es soportado en un árbol binario.");
+        E value = get(index);
+        delete(value);
+        return value;
     }
 
+    /**
+     * Returns the rank of a value, that is, the number of elements smaller than it.
+     * 
+     * @param o the value to look for
+     * @return the position of the value in ascending order, or -1 if it is not in the tree
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public int indexOf(Object o) {
-        throw new UnsupportedOperationException("El método indexOf no es soportado en un árbol binario.");
+        E value = (E) o;
+        Node current = root;
+        long prefix = prefixOf(value);
+        int rank = 0;
+        while (current != null) {
+            int cmp = compareTo(value, prefix, current);
+            if (cmp == 0) {
+                return rank + sizeOf(current.left);
+            }
+            if (cmp < 0) {
+                current = current.left;
+            } else {
+                rank += sizeOf(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return -1;
     }
 
+    /**
+     * Returns the position of a value. Since the tree holds no duplicates, it is the same as {@link #indexOf(Object)}.
+     * 
+     * @param o the value to look for
+     * @return the position of the value in ascending order, or -1 if it is not in the tree
+     */
     @Override
     public int lastIndexOf(Object o) {
-        throw new UnsupportedOperationException("El método lastIndexOf no es soportado en un árbol binario.");
+        return indexOf(o);
     }
 
+    /**
+     * Returns a live view of the elements whose ranks are between {@code fromIndex} (inclusive)
+     * and {@code toIndex} (exclusive). Positional reads and removals through the view go straight to the tree.
+     * 
+     * @param fromIndex the low endpoint of the view
+     * @param toIndex the high endpoint of the view
+     * @return a view of the given range
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
     @Override
-    public ListIterator<E> listIterator() {
-        throw new UnsupportedOperationException("El método listIterator no es soportado en un árbol binario.");
+    public List<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * A range of ranks of the tree. Structural changes made to the tree outside the view invalidate it.
+     */
+    private class SubList extends AbstractList<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = BinarySearchTree.this.modCount;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return BinarySearchTree.this.get(offset + index);
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            E value = BinarySearchTree.this.remove(offset + index);
+            expectedModCount = BinarySearchTree.this.modCount;
+            size--;
+            modCount++;
+            return value;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        private void checkForComodification() {
+            if (BinarySearchTree.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
+    // The following List interface methods are not supported by the Binary Search Tree
+
     @Override
-    public ListIterator<E> listIterator(int index) {
-        throw new UnsupportedOperationException("El método listIterator con índice no es soportado en un árbol binario.");
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("El método set con índice no es soportado en un árbol binario.");
     }
 
     @Override
-    public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException("El método subList no es soportado en un árbol binario.");
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("El método add con índice no es soportado en un árbol binario.");
     }
 
     @Override
     public boolean containsAll(Collection<?> c) {
-        for (Object element : c) {
-            if (!contains(element)) {
-                return false;
+        Object[] batch = c.toArray();
+        int count = sortDistinct(batch);
+        return locateSorted(batch, count, new boolean[count], null, true) >= 0;
+    }
+
+    /**
+     * Looks up every value of a collection, resolving the whole batch in a single pass over the tree.
+     * 
+     * @param values the values to look for
+     * @return for each value, in the iteration order of the collection, whether it is in the tree
+     */
+    @SuppressWarnings("unchecked")
+    public boolean[] containsEach(Collection<? extends E> values) {
+        Object[] keys = values.toArray();
+        Object[] batch = keys.clone();
+        int count = sortDistinct(batch);
+        boolean[] present = new boolean[count];
+        locateSorted(batch, count, present, null, false);
+        boolean[] result = new boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = present[indexIn(batch, 0, count, (E) keys[i])];
+        }
+        return result;
+    }
+
+    /**
+     * Adds every value of a collection, finding the missing ones in a single pass over the tree
+     * and adding them together with {@link #addAll(Collection)}.
+     * 
+     * @param values the values to add
+     * @return for each value, in the iteration order of the collection, whether that occurrence was added
+     */
+    @SuppressWarnings("unchecked")
+    public boolean[] addEach(Collection<? extends E> values) {
+        Object[] keys = values.toArray();
+        Object[] batch = keys.clone();
+        int count = sortDistinct(batch);
+        boolean[] present = new boolean[count];
+        locateSorted(batch, count, present, null, false);
+        boolean[] added = new boolean[keys.length];
+        List<E> missing = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            int index = indexIn(batch, 0, count, (E) keys[i]);
+            if (!present[index]) {
+                present[index] = true;
+                added[i] = true;
+                missing.add((E) keys[i]);
             }
         }
-        return true;
+        if (!missing.isEmpty()) {
+            addAll(missing);
+        }
+        return added;
     }
 
+    /**
+     * Removes every value of a collection, finding the present ones in a single pass over the tree
+     * and removing them together with {@link #removeAll(Collection)}.
+     * 
+     * @param values the values to remove
+     * @return for each value, in the iteration order of the collection, whether that occurrence was removed
+     */
+    @SuppressWarnings("unchecked")
+    public boolean[] removeEach(Collection<? extends E> values) {
+        Object[] keys = values.toArray();
+        Object[] batch = keys.clone();
+        int count = sortDistinct(batch);
+        boolean[] present = new boolean[count];
+        locateSorted(batch, count, present, null, false);
+        boolean[] removed = new boolean[keys.length];
+        List<E> found = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            int index = indexIn(batch, 0, count, (E) keys[i]);
+            if (present[index]) {
+                present[index] = false;
+                removed[i] = true;
+                found.add((E) keys[i]);
+            }
+        }
+        if (!found.isEmpty()) {
+            removeAll(found);
+        }
+        return removed;
+    }
+
+    /**
+     * Splits the distinct values of a collection by whether they are in the tree, in a single sorted pass.
+     * Values found in the tree are returned as the elements stored for them, never as the caller's objects.
+     * 
+     * @param values the values to look for
+     * @param inTree whether to return the values that are in the tree or the ones that are not
+     * @return the matching distinct values in ascending order
+     */
+    @SuppressWarnings("unchecked")
+    protected List<E> partitionBatch(Collection<?> values, boolean inTree) {
+        Object[] batch = values.toArray();
+        int count = sortDistinct(batch);
+        boolean[] present = new boolean[count];
+        Object[] matches = inTree ? new Object[count] : null;
+        locateSorted(batch, count, present, matches, false);
+        List<E> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (present[i] == inTree) {
+                result.add((E) (inTree ? matches[i] : batch[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Looks up a sorted batch of distinct values in a single pass over the tree. Each node splits the part
+     * of the batch that reaches it into the values before and after its own, so no node is visited twice
+     * and subtrees that none of the values can be in are skipped. An explicit stack keeps the walk
+     * independent of the height of the tree.
+     * 
+     * @param batch the sorted, distinct values
+     * @param count the number of values to use from the front of the array
+     * @param present receives, for each value, whether it is in the tree
+     * @param matches receives, for each value in the tree, the element stored for it; may be null
+     * @param stopOnMissing whether to stop at the first value that is not in the tree
+     * @return the number of values found, or -1 if a value is missing and {@code stopOnMissing} is set
+     */
+    private int locateSorted(Object[] batch, int count, boolean[] present, Object[] matches, boolean stopOnMissing) {
+        int found = 0;
+        List<Node> nodes = new ArrayList<>();
+        int[] ranges = new int[32];
+        if (count > 0) {
+            nodes.add(root);
+            ranges[0] = 0;
+            ranges[1] = count;
+        }
+        while (!nodes.isEmpty()) {
+            int top = nodes.size() - 1;
+            Node node = nodes.remove(top);
+            int low = ranges[2 * top];
+            int high = ranges[2 * top + 1];
+            if (node == null) {
+                if (stopOnMissing) {
+                    return -1;
+                }
+                continue;
+            }
+            int index = indexIn(batch, low, high, node.value);
+            int leftEnd = index >= 0 ? index : -index - 1;
+            int rightStart = index >= 0 ? index + 1 : leftEnd;
+            if (index >= 0) {
+                present[index] = true;
+                if (matches != null) {
+                    matches[index] = node.value;
+                }
+                found++;
+            }
+            if (2 * nodes.size() + 4 > ranges.length) {
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+            if (low < leftEnd) {
+                ranges[2 * nodes.size()] = low;
+                ranges[2 * nodes.size() + 1] = leftEnd;
+                nodes.add(node.left);
+            }
+            if (rightStart < high) {
+                ranges[2 * nodes.size()] = rightStart;
+                ranges[2 * nodes.size() + 1] = high;
+                nodes.add(node.right);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Binary search over a sorted range of an array.
+     * 
+     * @param sorted the sorted values
+     * @param from the first index of the range
+     * @param to the index after the last one of the range
+     * @param value the value to look for
+     * @return the index of the value, or {@code -(insertion point) - 1} if it is not in the range
+     */
+    @SuppressWarnings("unchecked")
+    private int indexIn(Object[] sorted, int from, int to, E value) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = compare((E) sorted[middle], value);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Checks whether the tree contains every value of a collection, spreading the lookups over the
+     * common fork-join pool and stopping as soon as one value is missing.
+     * 
+     * @param c the values to look for
+     * @return true if every value is in the tree
+     */
+    public boolean parallelContainsAll(Collection<?> c) {
+        if (c.size() < PARALLEL_THRESHOLD) {
+            return containsAll(c);
+        }
+        return Arrays.stream(c.toArray()).parallel().allMatch(this::contains);
+    }
+
+    /**
+     * Adds all the values of a collection. Small batches are inserted one by one; larger ones are
+     * sorted and merged with the elements of the tree, which is then rebuilt in linear time.
+     * 
+     * @param c the values to add
+     * @return true if the tree changed
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean addAll(Collection<? extends E> c) {
-        for (E element : c) {
-            add(element);
+        int before = size();
+        if ((long) c.size() * (32 - Integer.numberOfLeadingZeros(before)) < before) {
+            for (E element : c) {
+                add(element);
+            }
+            return size() != before;
         }
-        return true;
+        Object[] batch = c.toArray();
+        int batchSize = sortDistinct(batch);
+        Object[] current = toArray();
+        Object[] merged = new Object[current.length + batchSize];
+        int i = 0, j = 0, count = 0;
+        while (i < current.length || j < batchSize) {
+            int cmp = i == current.length ? 1 : j == batchSize ? -1 : compare((E) current[i], (E) batch[j]);
+            if (cmp <= 0) {
+                merged[count++] = current[i++];
+                if (cmp == 0) {
+                    j++;
+                }
+            } else {
+                merged[count++] = batch[j++];
+            }
+        }
+        if (count != before) {
+            rebuild(merged, count);
+        }
+        return count != before;
     }
 
     @Override
@@ -483,26 +2608,93 @@ public class BinarySearchTree<E extends Comparable<E>> implements List<E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean remove(Object o) {
+        int before = size();
         delete((E) o);
-        return true;
+        return size() != before;
     }
 
+    /**
+     * Removes all the values of a collection. The batch is sorted and looked up in a single pass;
+     * a few hits are deleted one by one, while many are filtered out of the elements of the tree,
+     * which is then rebuilt in linear time.
+     * 
+     * @param c the values to remove
+     * @return true if the tree changed
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean removeAll(Collection<?> c) {
-        for (Object element : c) {
-            remove(element);
+        Object[] batch = c.toArray();
+        int count = sortDistinct(batch);
+        boolean[] present = new boolean[count];
+        int hits = locateSorted(batch, count, present, null, false);
+        if (hits == 0) {
+            return false;
+        }
+        int before = size();
+        if ((long) hits * (32 - Integer.numberOfLeadingZeros(before)) < before) {
+            for (int i = 0; i < count; i++) {
+                if (present[i]) {
+                    delete((E) batch[i]);
+                }
+            }
+            return true;
+        }
+        Object[] current = toArray();
+        int kept = 0;
+        for (int i = 0, j = 0; i < current.length; i++) {
+            while (j < count && !present[j]) {
+                j++;
+            }
+            if (j < count && compare((E) current[i], (E) batch[j]) == 0) {
+                j++;
+            } else {
+                current[kept++] = current[i];
+            }
         }
+        rebuild(current, kept);
         return true;
     }
 
+    /**
+     * Keeps only the values that are also in a collection, merging the sorted batch with the elements
+     * of the tree and rebuilding it, in O(n + m) once the batch is sorted.
+     * 
+     * @param c the values to keep
+     * @return true if the tree changed
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean retainAll(Collection<?> c) {
-        throw new UnsupportedOperationException("El método retainAll no es soportado en un árbol binario.");
+        Object[] batch = c.toArray();
+        int count = sortDistinct(batch);
+        Object[] current = toArray();
+        int kept = 0;
+        for (int i = 0, j = 0; i < current.length && j < count; ) {
+            int cmp = compare((E) current[i], (E) batch[j]);
+            if (cmp == 0) {
+                current[kept++] = current[i];
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        if (kept == current.length) {
+            return false;
+        }
+        rebuild(current, kept);
+        return true;
     }
 
     @Override
     public void clear() {
+        checkMutable();
+        modCount++;
         root = null;
     }
 }
@@ -0,0 +1,339 @@
+package escuelaing.edu.co.BST;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A sorted map backed by an {@link AVLTree} whose nodes carry the mapped value next to the key.
+ * Lookups, insertions and removals reuse the descent of the tree, so reading or replacing a value
+ * is a single traversal and no separate structure holds the payloads. Entries are iterated in key order.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of mapped values
+ */
+public class BinarySearchTreeMap<K, V> extends AbstractMap<K, V> {
+
+    private final EntryTree entries;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map ordered by the natural ordering of its keys.
+     */
+    public BinarySearchTreeMap() {
+        this((Comparator<? super K>) null);
+    }
+
+    /**
+     * Creates an empty map ordered by a comparator.
+     *
+     * @param comparator the ordering of the keys, or null for their natural ordering
+     */
+    public BinarySearchTreeMap(Comparator<? super K> comparator) {
+        entries = new EntryTree(comparator);
+    }
+
+    /**
+     * Creates a map with the mappings of another map, ordered by the natural ordering of its keys.
+     *
+     * @param map the mappings to copy
+     */
+    public BinarySearchTreeMap(Map<? extends K, ? extends V> map) {
+        this();
+        putAll(map);
+    }
+
+    /**
+     * Tree of keys whose nodes are the entries of the map.
+     */
+    private final class EntryTree extends AVLTree<K> {
+
+        EntryTree(Comparator<? super K> comparator) {
+            super(comparator);
+        }
+
+        /**
+         * A node of the tree that is also a mapping of the map.
+         */
+        final class Entry extends Node implements Map.Entry<K, V> {
+            V payload;
+
+            Entry(K key) {
+                super(key);
+            }
+
+            @Override
+            public K getKey() {
+                return value;
+            }
+
+            @Override
+            public V getValue() {
+                return payload;
+            }
+
+            @Override
+            public V setValue(V newValue) {
+                V old = payload;
+                payload = newValue;
+                return old;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Map.Entry<?, ?> other
+                        && Objects.equals(value, other.getKey())
+                        && Objects.equals(payload, other.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(value) ^ Objects.hashCode(payload);
+            }
+
+            @Override
+            public String toString() {
+                return value + "=" + payload;
+            }
+        }
+
+        @Override
+        protected Node newNode(K key) {
+            return new Entry(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Node copyNode(Node node) {
+            Entry copy = (Entry) super.copyNode(node);
+            copy.payload = ((Entry) node).payload;
+            return copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry find(Object key) {
+            return (Entry) search((K) key);
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry findOrCreate(K key) {
+            return (Entry) insertNode(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry unlink(Object key) {
+            return (Entry) deleteNode((K) key);
+        }
+
+        Iterator<Map.Entry<K, V>> entryIterator() {
+            Iterator<Node> nodes = nodeIterator();
+            return new Iterator<Map.Entry<K, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return nodes.hasNext();
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.Entry<K, V> next() {
+                    return (Entry) nodes.next();
+                }
+
+                @Override
+                public void remove() {
+                    nodes.remove();
+                }
+            };
+        }
+    }
+
+    /**
+     * Returns the comparator used to order the keys.
+     *
+     * @return the comparator, or null if the map uses the natural ordering of its keys
+     */
+    public Comparator<? super K> comparator() {
+        return entries.comparator();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.find(key) != null;
+    }
+
+    /**
+     * Returns the value mapped to a key with a single descent of the tree.
+     *
+     * @param key the key to look up
+     * @return the mapped value, or null if the key is not in the map
+     */
+    @Override
+    public V get(Object key) {
+        EntryTree.Entry entry = entries.find(key);
+        return entry == null ? null : entry.payload;
+    }
+
+    /**
+     * Maps a key to a value. The node of the key is found or created in a single descent.
+     *
+     * @param key the key
+     * @param value the value to map it to
+     * @return the previous value, or null if the key was not in the map
+     */
+    @Override
+    public V put(K key, V value) {
+        return entries.findOrCreate(key).setValue(value);
+    }
+
+    /**
+     * Removes the mapping of a key with a single descent of the tree.
+     *
+     * @param key the key to remove
+     * @return the value it was mapped to, or null if the key was not in the map
+     */
+    @Override
+    public V remove(Object key) {
+        EntryTree.Entry entry = entries.unlink(key);
+        return entry == null ? null : entry.payload;
+    }
+
+    /**
+     * Returns the value of a key, computing and storing it first when the key is absent or mapped to null.
+     * A present key costs one descent; an absent one costs a lookup and an insertion.
+     *
+     * @param key the key
+     * @param mappingFunction the function computing the value of an absent key
+     * @return the current value, or null if the function returned null
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        EntryTree.Entry entry = entries.find(key);
+        if (entry != null && entry.payload != null) {
+            return entry.payload;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            (entry != null ? entry : entries.findOrCreate(key)).payload = value;
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value for an absent key, or combines it with the current value of a present one.
+     * The node of the key is found or created in a single descent; a null result removes the mapping.
+     *
+     * @param key the key
+     * @param value the value to store or combine
+     * @param remappingFunction the function combining the current value with the given one
+     * @return the new value, or null if the mapping was removed
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        EntryTree.Entry entry = entries.findOrCreate(key);
+        if (entry.payload == null) {
+            entry.payload = value;
+            return value;
+        }
+        V merged = remappingFunction.apply(entry.payload, value);
+        if (merged == null) {
+            entries.unlink(key);
+        } else {
+            entry.payload = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the smallest key.
+     *
+     * @return the first key
+     * @throws java.util.NoSuchElementException if the map is empty
+     */
+    public K firstKey() {
+        return entries.first();
+    }
+
+    /**
+     * Returns the largest key.
+     *
+     * @return the last key
+     * @throws java.util.NoSuchElementException if the map is empty
+     */
+    public K lastKey() {
+        return entries.last();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a live view of the mappings in key order. Its entries are the nodes of the tree, so
+     * {@link Map.Entry#setValue(Object)} writes through, and its iterator supports removal.
+     *
+     * @return the set of mappings
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return entries.entryIterator();
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+            EntryTree.Entry node = entries.find(entry.getKey());
+            return node != null && Objects.equals(node.payload, entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            entries.unlink(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+    }
+}
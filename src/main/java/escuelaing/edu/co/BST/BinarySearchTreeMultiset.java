@@ -0,0 +1,376 @@
+package escuelaing.edu.co.BST;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A sorted multiset backed by an {@link AVLTree} that keeps one node per distinct element together with
+ * its number of occurrences. Every node also stores the total number of occurrences in its subtree, so
+ * {@link #size()}, {@link #rank(Object)} and {@link #get(long)} count duplicates and still run in O(log n),
+ * while duplicate-heavy workloads keep a single node for each distinct element.
+ *
+ * @param <E> the type of elements
+ */
+public class BinarySearchTreeMultiset<E> extends AbstractCollection<E> {
+
+    private final CountTree elements;
+
+    /**
+     * Creates an empty multiset ordered by the natural ordering of its elements.
+     */
+    public BinarySearchTreeMultiset() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty multiset ordered by a comparator.
+     *
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     */
+    public BinarySearchTreeMultiset(Comparator<? super E> comparator) {
+        elements = new CountTree(comparator);
+    }
+
+    /**
+     * Tree of the distinct elements whose nodes carry occurrence counts.
+     */
+    private final class CountTree extends AVLTree<E> {
+
+        /**
+         * Number of occurrences given to the next node created by an insertion.
+         */
+        private int pendingCount = 1;
+
+        /**
+         * Count of the element found by the last call to {@link #addOccurrences} or {@link #removeOccurrences}.
+         */
+        private int previousCount;
+
+        CountTree(Comparator<? super E> comparator) {
+            super(comparator);
+        }
+
+        /**
+         * A node with the number of occurrences of its element and the total number of occurrences in its subtree.
+         */
+        final class CountNode extends Node {
+            int count;
+            long total;
+
+            CountNode(E value) {
+                super(value);
+            }
+        }
+
+        @Override
+        protected Node newNode(E value) {
+            CountNode node = new CountNode(value);
+            node.count = pendingCount;
+            node.total = pendingCount;
+            return node;
+        }
+
+        @Override
+        protected Node copyNode(Node node) {
+            CountNode copy = (CountNode) super.copyNode(node);
+            copy.count = ((CountNode) node).count;
+            copy.total = ((CountNode) node).total;
+            return copy;
+        }
+
+        /**
+         * Recomputes the height, size and total number of occurrences of a node. AVL rotations
+         * call it for the nodes they move, so the totals stay correct after rebalancing.
+         *
+         * @param node the node to update
+         */
+        @Override
+        protected void updateNode(Node node) {
+            super.updateNode(node);
+            CountNode countNode = (CountNode) node;
+            countNode.total = totalOf(node.left) + totalOf(node.right) + countNode.count;
+        }
+
+        long totalOf(Node node) {
+            return node == null ? 0 : ((CountNode) node).total;
+        }
+
+        @SuppressWarnings("unchecked")
+        CountNode find(Object value) {
+            return (CountNode) search((E) value);
+        }
+
+        /**
+         * Adds occurrences of an element in a single descent, creating its node when it is missing.
+         * The totals on the path are recomputed once the count has changed.
+         *
+         * @return the count before the call
+         */
+        int addOccurrences(E value, int occurrences) {
+            previousCount = 0;
+            pendingCount = occurrences;
+            try {
+                modifyNode(value, true, node -> {
+                    CountNode countNode = (CountNode) node;
+                    countNode.count = Math.addExact(countNode.count, occurrences);
+                    previousCount = countNode.count - occurrences;
+                    return true;
+                });
+            } finally {
+                pendingCount = 1;
+            }
+            return previousCount;
+        }
+
+        /**
+         * Removes occurrences of an element in a single descent, deleting its node when no occurrence is left.
+         *
+         * @return the count before the call
+         */
+        @SuppressWarnings("unchecked")
+        int removeOccurrences(Object value, int occurrences) {
+            previousCount = 0;
+            modifyNode((E) value, false, node -> {
+                CountNode countNode = (CountNode) node;
+                previousCount = countNode.count;
+                if (occurrences >= countNode.count) {
+                    return false;
+                }
+                countNode.count -= occurrences;
+                return true;
+            });
+            return previousCount;
+        }
+    }
+
+    /**
+     * Returns the comparator used to order the elements.
+     *
+     * @return the comparator, or null if the multiset uses the natural ordering of its elements
+     */
+    public Comparator<? super E> comparator() {
+        return elements.comparator();
+    }
+
+    /**
+     * Returns the number of occurrences of an element.
+     *
+     * @param o the element
+     * @return the number of occurrences, or 0 if the element is not in the multiset
+     */
+    public int count(Object o) {
+        CountTree.CountNode node = elements.find(o);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Adds one occurrence of an element.
+     *
+     * @param value the element to add
+     * @return true, since a multiset always changes
+     */
+    @Override
+    public boolean add(E value) {
+        add(value, 1);
+        return true;
+    }
+
+    /**
+     * Adds occurrences of an element. A new element gets a single node holding its count.
+     *
+     * @param value the element to add
+     * @param occurrences the number of occurrences to add
+     * @return the number of occurrences before the call
+     * @throws IllegalArgumentException if the number of occurrences is negative
+     * @throws ArithmeticException if the count of the element would overflow an int
+     */
+    public int add(E value, int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("El número de ocurrencias no puede ser negativo.");
+        }
+        if (occurrences == 0) {
+            return count(value);
+        }
+        return elements.addOccurrences(value, occurrences);
+    }
+
+    /**
+     * Removes one occurrence of an element.
+     *
+     * @param o the element to remove
+     * @return true if the element was in the multiset
+     */
+    @Override
+    public boolean remove(Object o) {
+        return remove(o, 1) > 0;
+    }
+
+    /**
+     * Removes occurrences of an element. The node of the element is deleted when its count reaches zero.
+     *
+     * @param o the element to remove
+     * @param occurrences the number of occurrences to remove; removing more than are present removes all of them
+     * @return the number of occurrences before the call
+     * @throws IllegalArgumentException if the number of occurrences is negative
+     */
+    public int remove(Object o, int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("El número de ocurrencias no puede ser negativo.");
+        }
+        if (occurrences == 0) {
+            return count(o);
+        }
+        return elements.removeOccurrences(o, occurrences);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.find(o) != null;
+    }
+
+    /**
+     * Returns the total number of occurrences of all elements, capped at {@link Integer#MAX_VALUE}.
+     *
+     * @return the size of the multiset
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(totalCount(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the total number of occurrences of all elements in constant time.
+     *
+     * @return the number of occurrences
+     */
+    public long totalCount() {
+        return elements.totalOf(elements.root());
+    }
+
+    /**
+     * Returns the number of distinct elements.
+     *
+     * @return the number of nodes of the tree
+     */
+    public int distinctCount() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Returns the number of occurrences of elements smaller than a value, counting duplicates.
+     *
+     * @param value the value
+     * @return the position of the first occurrence the value has or would have
+     */
+    public long rank(E value) {
+        BinarySearchTree<E>.Node current = elements.root();
+        long prefix = elements.prefixOf(value);
+        long rank = 0;
+        while (current != null) {
+            int cmp = elements.compareTo(value, prefix, current);
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    return rank + elements.totalOf(current.left);
+                }
+                current = current.left;
+            } else {
+                rank += elements.totalOf(current.left) + ((CountTree.CountNode) current).count;
+                current = current.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element at a position of the sorted sequence of occurrences.
+     *
+     * @param index the position, counting duplicates
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public E get(long index) {
+        Objects.checkIndex(index, totalCount());
+        BinarySearchTree<E>.Node current = elements.root();
+        while (true) {
+            long left = elements.totalOf(current.left);
+            int count = ((CountTree.CountNode) current).count;
+            if (index < left) {
+                current = current.left;
+            } else if (index < left + count) {
+                return current.value;
+            } else {
+                index -= left + count;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only view of the distinct elements in ascending order.
+     *
+     * @return the set of distinct elements
+     */
+    public NavigableSet<E> elementSet() {
+        return Collections.unmodifiableNavigableSet(elements);
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Returns an iterator over the occurrences in ascending order, repeating each element as many times as
+     * it occurs. Its {@code remove()} removes one occurrence and resumes after the current element.
+     *
+     * @return an iterator over the multiset
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Iterator<BinarySearchTree<E>.Node> nodes = elements.nodeIterator();
+            private CountTree.CountNode node;
+            private int remaining;
+            private boolean canRemove;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0 || nodes.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (remaining == 0) {
+                    if (!nodes.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    node = (CountTree.CountNode) nodes.next();
+                    remaining = node.count;
+                }
+                remaining--;
+                canRemove = true;
+                return node.value;
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                canRemove = false;
+                elements.removeOccurrences(node.value, 1);
+                nodes = elements.nodeIterator(node.value, false);
+            }
+        };
+    }
+}
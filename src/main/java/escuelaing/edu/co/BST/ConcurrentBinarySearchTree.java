@@ -0,0 +1,703 @@
+package escuelaing.edu.co.BST;
+
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe, self-balancing binary search tree with the same API as {@link BinarySearchTree}.
+ * <p>
+ * Writers are serialized by a reentrant write lock and bump a version counter before and after every
+ * modification (odd while a write is in progress). {@link #search(Object)}, {@link #contains(Object)},
+ * {@link #size()} and {@link #isEmpty()} read the tree optimistically without taking any lock and only
+ * fall back to the read lock if the version changed while they ran. Other queries share the read lock.
+ * Iterators, spliterators and the range, reverse and sublist views work on a constant-time {@link #snapshot()},
+ * so they never throw {@link ConcurrentModificationException} and views are read-only; removing through an
+ * iterator removes the element from the live tree.
+ *
+ * @param <E> the type of elements stored in the tree
+ */
+public class ConcurrentBinarySearchTree<E> extends AVLTree<E> {
+
+    /**
+     * Upper bound for an optimistic descent. An AVL tree with 2^31 nodes is at most 45 levels deep,
+     * so a longer walk can only come from reading the tree in the middle of a rotation.
+     */
+    private static final int MAX_OPTIMISTIC_DEPTH = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long version;
+
+    public ConcurrentBinarySearchTree() {
+        super();
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator.
+     *
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     */
+    public ConcurrentBinarySearchTree(Comparator<? super E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Creates an empty tree ordered by a comparator that caches a normalized key prefix in every node.
+     *
+     * @param comparator the ordering of the elements, or null for their natural ordering
+     * @param keyPrefix the function computing the key prefix of a value, or null to disable the cache
+     * @see BinarySearchTree#BinarySearchTree(Comparator, ToLongFunction)
+     */
+    public ConcurrentBinarySearchTree(Comparator<? super E> comparator, ToLongFunction<? super E> keyPrefix) {
+        super(comparator, keyPrefix);
+    }
+
+    /**
+     * Creates a tree holding the distinct values of a collection.
+     *
+     * @param values the values to load
+     */
+    public ConcurrentBinarySearchTree(Collection<? extends E> values) {
+        super();
+        addAll(values);
+    }
+
+    private void beginWrite() {
+        lock.writeLock().lock();
+        if (lock.writeLock().getHoldCount() == 1) {
+            version++;
+            VarHandle.storeStoreFence();
+        }
+    }
+
+    private void endWrite() {
+        if (lock.writeLock().getHoldCount() == 1) {
+            version++;
+        }
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * Checks that no write started or finished since the given version was read.
+     */
+    private boolean validate(long startVersion) {
+        VarHandle.acquireFence();
+        return (startVersion & 1) == 0 && startVersion == version;
+    }
+
+    /**
+     * Searches for a value without locking, retrying under the read lock if a writer interfered.
+     *
+     * @param value the value to search for
+     * @return the node containing the value, or null if not found
+     */
+    @Override
+    public Node search(E value) {
+        long startVersion = version;
+        if ((startVersion & 1) == 0) {
+            TreeMetrics metrics = metrics();
+            long start = metrics == null ? 0 : System.nanoTime();
+            try {
+                Node current = root();
+                long prefix = prefixOf(value);
+                int depth = 0;
+                int comparisons = 0;
+                while (current != null && depth++ < MAX_OPTIMISTIC_DEPTH) {
+                    if (metrics != null && comparesKeys(prefix, current)) {
+                        comparisons++;
+                    }
+                    int cmp = compareTo(value, prefix, current);
+                    if (cmp == 0) {
+                        break;
+                    }
+                    current = cmp < 0 ? current.left : current.right;
+                }
+                if (depth <= MAX_OPTIMISTIC_DEPTH && validate(startVersion)) {
+                    if (metrics != null) {
+                        metrics.recordSearch(current == null ? depth : depth - 1, comparisons, start);
+                    }
+                    return current;
+                }
+            } catch (RuntimeException inconsistentRead) {
+                // A torn read can surface as an exception; the locked retry decides.
+            }
+        }
+        lock.readLock().lock();
+        try {
+            return super.search(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return search((E) o) != null;
+    }
+
+    @Override
+    public int size() {
+        long startVersion = version;
+        if ((startVersion & 1) == 0) {
+            Node root = root();
+            int size = root == null ? 0 : root.size;
+            if (validate(startVersion)) {
+                return size;
+            }
+        }
+        lock.readLock().lock();
+        try {
+            return super.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Writes
+
+    @Override
+    public void insert(E value) {
+        beginWrite();
+        try {
+            super.insert(value);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public void delete(E value) {
+        beginWrite();
+        try {
+            super.delete(value);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean add(E value) {
+        beginWrite();
+        try {
+            return super.add(value);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        beginWrite();
+        try {
+            return super.remove(o);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        beginWrite();
+        try {
+            return super.remove(index);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        beginWrite();
+        try {
+            return super.addAll(c);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean[] addEach(Collection<? extends E> values) {
+        beginWrite();
+        try {
+            return super.addEach(values);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean[] removeEach(Collection<? extends E> values) {
+        beginWrite();
+        try {
+            return super.removeEach(values);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        beginWrite();
+        try {
+            return super.removeAll(c);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        beginWrite();
+        try {
+            return super.retainAll(c);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public TreeMetrics enableMetrics() {
+        beginWrite();
+        try {
+            return super.enableMetrics();
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public void disableMetrics() {
+        beginWrite();
+        try {
+            super.disableMetrics();
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public void clear() {
+        beginWrite();
+        try {
+            super.clear();
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    protected void load(Object[] values) {
+        beginWrite();
+        try {
+            super.load(values);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    protected void loadPreOrder(Object[] values) {
+        beginWrite();
+        try {
+            super.loadPreOrder(values);
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public E pollFirst() {
+        beginWrite();
+        try {
+            return super.pollFirst();
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public E pollLast() {
+        beginWrite();
+        try {
+            return super.pollLast();
+        } finally {
+            endWrite();
+        }
+    }
+
+    // Reads under the shared lock
+
+    @Override
+    public int height() {
+        lock.readLock().lock();
+        try {
+            return super.height();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isBalanced() {
+        lock.readLock().lock();
+        try {
+            return super.isBalanced();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks the balance of a snapshot of the tree in parallel, without holding any lock.
+     */
+    @Override
+    public boolean parallelIsBalanced() {
+        return snapshot().parallelIsBalanced();
+    }
+
+    @Override
+    public Node findMin() {
+        lock.readLock().lock();
+        try {
+            return super.findMin();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Node findMax() {
+        lock.readLock().lock();
+        try {
+            return super.findMax();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E first() {
+        lock.readLock().lock();
+        try {
+            return super.first();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E last() {
+        lock.readLock().lock();
+        try {
+            return super.last();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E lower(E value) {
+        lock.readLock().lock();
+        try {
+            return super.lower(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E floor(E value) {
+        lock.readLock().lock();
+        try {
+            return super.floor(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E ceiling(E value) {
+        lock.readLock().lock();
+        try {
+            return super.ceiling(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E higher(E value) {
+        lock.readLock().lock();
+        try {
+            return super.higher(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        lock.readLock().lock();
+        try {
+            return super.get(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        lock.readLock().lock();
+        try {
+            return super.indexOf(o);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        lock.readLock().lock();
+        try {
+            return super.containsAll(c);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean[] containsEach(Collection<? extends E> values) {
+        lock.readLock().lock();
+        try {
+            return super.containsEach(values);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.readLock().lock();
+        try {
+            return super.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        lock.readLock().lock();
+        try {
+            return super.toArray(a);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String inOrderTraversal() {
+        lock.readLock().lock();
+        try {
+            return super.inOrderTraversal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String preOrderTraversal() {
+        lock.readLock().lock();
+        try {
+            return super.preOrderTraversal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String postOrderTraversal() {
+        lock.readLock().lock();
+        try {
+            return super.postOrderTraversal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String levelOrderTraversal() {
+        lock.readLock().lock();
+        try {
+            return super.levelOrderTraversal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Snapshot-based iteration and views
+
+    /**
+     * Returns an immutable view of the current contents in constant time. Readers of the snapshot
+     * need no locking at all, since writers copy the nodes they modify instead of changing shared ones.
+     *
+     * @return a read-only tree with the current elements
+     */
+    @Override
+    public BinarySearchTree<E> snapshot() {
+        lock.writeLock().lock();
+        try {
+            return super.snapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in ascending order.
+     * Removing through it removes the element from the tree.
+     *
+     * @return an iterator over the tree
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator(snapshot().iterator());
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in descending order.
+     * Removing through it removes the element from the tree.
+     *
+     * @return an iterator from the largest to the smallest element
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new SnapshotIterator(snapshot().descendingIterator());
+    }
+
+    /**
+     * Returns a read-only list iterator over a snapshot of the elements.
+     *
+     * @param index the rank of the first element returned by {@code next()}
+     * @return a list iterator over the snapshot
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return snapshot().spliterator();
+    }
+
+    /**
+     * Visits a snapshot of the elements in the given order until the visitor asks to stop.
+     */
+    @Override
+    public boolean traverse(TraversalOrder order, Predicate<? super E> visitor) {
+        return snapshot().traverse(order, visitor);
+    }
+
+    /**
+     * Returns a lazy stream over a snapshot of the elements in the given order.
+     */
+    @Override
+    public Stream<E> stream(TraversalOrder order) {
+        return snapshot().stream(order);
+    }
+
+    /**
+     * Returns a lazy iterator over a snapshot of the elements in the given order.
+     */
+    @Override
+    public Iterator<E> traversalIterator(TraversalOrder order) {
+        return snapshot().traversalIterator(order);
+    }
+
+    /**
+     * Returns a read-only range view over a snapshot of the elements.
+     */
+    @Override
+    public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        return snapshot().subSet(fromElement, fromInclusive, toElement, toInclusive);
+    }
+
+    /**
+     * Returns a read-only range view over a snapshot of the elements.
+     */
+    @Override
+    public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+        return snapshot().headSet(toElement, inclusive);
+    }
+
+    /**
+     * Returns a read-only range view over a snapshot of the elements.
+     */
+    @Override
+    public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+        return snapshot().tailSet(fromElement, inclusive);
+    }
+
+    /**
+     * Returns a read-only reverse-order view over a snapshot of the elements.
+     */
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return snapshot().descendingSet();
+    }
+
+    /**
+     * Returns a read-only view of a range of positions of a snapshot of the elements.
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return snapshot().subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Iterator over a snapshot whose {@code remove()} deletes from the live tree.
+     */
+    private class SnapshotIterator implements Iterator<E> {
+        private final Iterator<E> snapshot;
+        private E lastReturned;
+
+        SnapshotIterator(Iterator<E> snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        public E next() {
+            lastReturned = snapshot.next();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentBinarySearchTree.this.remove(lastReturned);
+            lastReturned = null;
+        }
+    }
+}
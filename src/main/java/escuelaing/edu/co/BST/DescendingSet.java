@@ -0,0 +1,139 @@
+package escuelaing.edu.co.BST;
+
+import java.util.*;
+
+/**
+ * A reverse-order view of a navigable set.
+ * Every operation is delegated to the underlying set with the direction swapped, so the view
+ * stays live and costs the same as the set it wraps.
+ *
+ * @param <E> the type of elements in the set
+ */
+class DescendingSet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+    private final NavigableSet<E> base;
+
+    DescendingSet(NavigableSet<E> base) {
+        this.base = base;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return base.descendingIterator();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return base.iterator();
+    }
+
+    @Override
+    public int size() {
+        return base.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return base.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return base.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return base.add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return base.remove(o);
+    }
+
+    @Override
+    public void clear() {
+        base.clear();
+    }
+
+    @Override
+    public E lower(E e) {
+        return base.higher(e);
+    }
+
+    @Override
+    public E floor(E e) {
+        return base.ceiling(e);
+    }
+
+    @Override
+    public E ceiling(E e) {
+        return base.floor(e);
+    }
+
+    @Override
+    public E higher(E e) {
+        return base.lower(e);
+    }
+
+    @Override
+    public E first() {
+        return base.last();
+    }
+
+    @Override
+    public E last() {
+        return base.first();
+    }
+
+    @Override
+    public E pollFirst() {
+        return base.pollLast();
+    }
+
+    @Override
+    public E pollLast() {
+        return base.pollFirst();
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return Collections.reverseOrder(base.comparator());
+    }
+
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return base;
+    }
+
+    @Override
+    public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        return base.subSet(toElement, toInclusive, fromElement, fromInclusive).descendingSet();
+    }
+
+    @Override
+    public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+        return base.tailSet(toElement, inclusive).descendingSet();
+    }
+
+    @Override
+    public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+        return base.headSet(fromElement, inclusive).descendingSet();
+    }
+
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return tailSet(fromElement, true);
+    }
+}
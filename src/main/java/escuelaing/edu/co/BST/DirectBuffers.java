@@ -0,0 +1,50 @@
+package escuelaing.edu.co.BST;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases direct and memory-mapped buffers right away instead of waiting for the garbage collector,
+ * through {@code sun.misc.Unsafe.invokeCleaner} when it is available.
+ */
+final class DirectBuffers {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException unavailable) {
+            // Without Unsafe the buffers are released by the garbage collector.
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees the memory of a direct buffer, or unmaps a mapped one. The buffer and every view of it
+     * must not be used afterwards.
+     *
+     * @param buffer the buffer to release
+     */
+    static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null && buffer != null) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // The garbage collector releases the buffer instead.
+            }
+        }
+    }
+}
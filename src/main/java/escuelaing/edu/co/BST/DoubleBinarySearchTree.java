@@ -0,0 +1,212 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A binary search tree specialized for {@code double} keys.
+ * Keys are stored unboxed in an array indexed by node id; the node structure is shared with the other
+ * primitive trees through {@link PrimitiveBinarySearchTree}.
+ */
+public class DoubleBinarySearchTree extends PrimitiveBinarySearchTree {
+
+    private double[] keys;
+
+    public DoubleBinarySearchTree() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty tree with room for a number of nodes before its arrays need to grow.
+     * 
+     * @param initialCapacity the initial number of node slots
+     */
+    public DoubleBinarySearchTree(int initialCapacity) {
+        super(initialCapacity);
+        keys = new double[capacity()];
+    }
+
+    /**
+     * Builds a minimum-height tree from keys in linear time when they are already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param values the keys to load
+     * @return a balanced tree holding the distinct keys
+     */
+    public static DoubleBinarySearchTree fromSorted(double... values) {
+        double[] sorted = values.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (Double.compare(sorted[i - 1], sorted[i]) > 0) {
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        int count = 0;
+        for (double value : sorted) {
+            if (count == 0 || Double.compare(sorted[count - 1], value) != 0) {
+                sorted[count++] = value;
+            }
+        }
+        DoubleBinarySearchTree tree = new DoubleBinarySearchTree(count);
+        System.arraycopy(sorted, 0, tree.keys, 0, count);
+        tree.linkSorted(count);
+        return tree;
+    }
+
+    @Override
+    protected void copyKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void resizeKeys(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    protected void appendKey(StringBuilder output, int node) {
+        output.append(keys[node]).append(' ');
+    }
+
+    /**
+     * Inserts a key into the tree. Duplicate keys are ignored.
+     * 
+     * @param key the key to insert
+     * @return true if the key was added
+     */
+    public boolean insert(double key) {
+        int parent = NIL;
+        int cmp = 0;
+        int current = root();
+        while (current != NIL) {
+            cmp = Double.compare(key, keys[current]);
+            if (cmp == 0) {
+                return false;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        int node = attach(parent, cmp);
+        keys[node] = key;
+        return true;
+    }
+
+    /**
+     * Searches for a key in the tree.
+     * 
+     * @param key the key to search for
+     * @return true if the key is in the tree
+     */
+    public boolean search(double key) {
+        int current = root();
+        while (current != NIL) {
+            int cmp = Double.compare(key, keys[current]);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tree contains a key.
+     * 
+     * @param key the key to check
+     * @return true if the key is in the tree
+     */
+    public boolean contains(double key) {
+        return search(key);
+    }
+
+    /**
+     * Deletes a key from the tree. A node with two children takes the key of its in-order
+     * successor, whose node is then unlinked.
+     * 
+     * @param key the key to delete
+     * @return true if the key was removed
+     */
+    public boolean delete(double key) {
+        int parent = NIL;
+        int current = root();
+        while (current != NIL) {
+            int cmp = Double.compare(key, keys[current]);
+            if (cmp == 0) {
+                detach(parent, current);
+                return true;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the minimum key in the tree.
+     * 
+     * @return the smallest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public double findMin() {
+        return keys[minNode()];
+    }
+
+    /**
+     * Finds the maximum key in the tree.
+     * 
+     * @return the largest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public double findMax() {
+        return keys[maxNode()];
+    }
+
+    /**
+     * Visits the keys in ascending order.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachInOrder(DoubleConsumer action) {
+        forEachNodeInOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys in pre-order (root, left, right).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPreOrder(DoubleConsumer action) {
+        forEachNodePreOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys in post-order (left, right, root).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPostOrder(DoubleConsumer action) {
+        forEachNodePostOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys level by level, starting from the root.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachLevelOrder(DoubleConsumer action) {
+        forEachNodeLevelOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Copies the keys into an array in ascending order.
+     * 
+     * @return the sorted keys
+     */
+    public double[] toArray() {
+        double[] values = new double[size()];
+        int[] index = {0};
+        forEachInOrder(key -> values[index[0]++] = key);
+        return values;
+    }
+}
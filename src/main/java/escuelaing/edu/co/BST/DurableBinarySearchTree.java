@@ -0,0 +1,473 @@
+package escuelaing.edu.co.BST;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * A binary search tree whose modifications survive a crash.
+ * <p>
+ * The tree lives in a directory holding a {@link TreeSnapshots} file and an append-only write-ahead log.
+ * Every insertion, deletion and clear that changes the tree appends a checksummed record to the log;
+ * removals through {@code remove}, {@code pollFirst}, {@code pollLast} and iterators go through
+ * {@link #delete(Object)}, and bulk additions and removals log the values they change before the tree is rebuilt.
+ * The {@link FsyncPolicy} decides when records reach the disk, and several records share one write
+ * (and one fsync) whenever the policy allows it. Opening the directory loads the latest snapshot and
+ * replays the log on top of it, ignoring a torn record at its end. Once the log holds more records than
+ * both the compaction threshold and the tree size, the tree is written to a new snapshot and the log is emptied.
+ * <p>
+ * Replaying a record gives the same result whether or not the snapshot already contains it, so a crash
+ * during compaction never loses or duplicates data. Like the base class, this tree is not thread-safe.
+ *
+ * @param <E> the type of elements stored in the tree
+ */
+public class DurableBinarySearchTree<E extends Comparable<E>> extends BinarySearchTree<E> implements Closeable {
+
+    /**
+     * When log records are forced to the storage device.
+     */
+    public enum FsyncPolicy {
+        /** Every modification is written and forced before it returns. */
+        ALWAYS,
+        /** Records are written and forced together once a batch is full; at most one batch can be lost. */
+        BATCH,
+        /** Records are written once a batch is full and left to the operating system to flush. */
+        NEVER
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    static final String SNAPSHOT_FILE = "tree.snapshot";
+    static final String LOG_FILE = "tree.wal";
+
+    private static final byte INSERT = 1;
+    private static final byte DELETE = 2;
+    private static final byte CLEAR = 3;
+
+    /**
+     * Bytes of a record besides its key: type, key length and checksum.
+     */
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final KeyCodec<E> codec;
+    private final FsyncPolicy policy;
+    private final int batchSize;
+    private final long compactionThreshold;
+    private final CRC32 checksum = new CRC32();
+    private final FileChannel log;
+    private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+    /**
+     * Number of records in the buffer that have not been written to the log yet.
+     */
+    private int pending;
+
+    /**
+     * Number of records in the log, written or not, since the last compaction.
+     */
+    private long logRecords;
+
+    /**
+     * Whether modifications are logged; off while the tree is being recovered.
+     */
+    private boolean logging;
+
+    /**
+     * Opens or creates a durable tree with the default batch size and compaction threshold.
+     *
+     * @param directory the directory holding the snapshot and the log
+     * @param codec the codec used to encode the keys
+     * @param policy when log records are forced to disk
+     * @throws IOException if the directory cannot be read or created
+     */
+    public DurableBinarySearchTree(Path directory, KeyCodec<E> codec, FsyncPolicy policy) throws IOException {
+        this(directory, codec, policy, DEFAULT_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens or creates a durable tree, recovering the contents saved in the directory.
+     *
+     * @param directory the directory holding the snapshot and the log
+     * @param codec the codec used to encode the keys
+     * @param policy when log records are forced to disk
+     * @param batchSize the number of records written together under the BATCH and NEVER policies
+     * @param compactionThreshold the minimum number of log records before the log is compacted into a snapshot
+     * @throws IOException if the directory cannot be read or created
+     */
+    public DurableBinarySearchTree(Path directory, KeyCodec<E> codec, FsyncPolicy policy, int batchSize, long compactionThreshold) throws IOException {
+        super();
+        if (batchSize < 1 || compactionThreshold < 1) {
+            throw new IllegalArgumentException("El tamaño de lote y el umbral de compactación deben ser positivos.");
+        }
+        this.directory = directory;
+        this.codec = codec;
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.compactionThreshold = compactionThreshold;
+
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            TreeSnapshots.load(snapshot, codec, this);
+        }
+        log = FileChannel.open(directory.resolve(LOG_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long end = replay();
+        if (end < log.size()) {
+            log.truncate(end);
+        }
+        log.position(end);
+        logging = true;
+    }
+
+    /**
+     * Applies the valid records of the log to the tree. The log is unmapped before returning,
+     * so the caller can truncate it.
+     *
+     * @return the length of the valid prefix of the log
+     */
+    private long replay() throws IOException {
+        long size = log.size();
+        if (size == 0) {
+            return 0;
+        }
+        long position = 0;
+        try (TreeSnapshots.MappedReader reader = new TreeSnapshots.MappedReader(log)) {
+            while (size - position >= RECORD_OVERHEAD) {
+                ByteBuffer in = reader.require(1 + Integer.BYTES);
+                int start = in.position();
+                byte type = in.get(start);
+                int length = in.getInt(start + 1);
+                if (type < INSERT || type > CLEAR || length < 0 || length > size - position - RECORD_OVERHEAD) {
+                    break;
+                }
+                in = reader.require(RECORD_OVERHEAD + length);
+                start = in.position();
+                ByteBuffer record = in.duplicate();
+                record.limit(start + 1 + Integer.BYTES + length);
+                checksum.reset();
+                checksum.update(record);
+                if ((int) checksum.getValue() != in.getInt(start + 1 + Integer.BYTES + length)) {
+                    break;
+                }
+                in.position(start + 1 + Integer.BYTES);
+                if (type == CLEAR) {
+                    clear();
+                } else {
+                    E value = codec.read(in, length);
+                    if (type == INSERT) {
+                        insert(value);
+                    } else {
+                        delete(value);
+                    }
+                }
+                in.position(start + RECORD_OVERHEAD + length);
+                position += RECORD_OVERHEAD + length;
+                logRecords++;
+            }
+        }
+        return position;
+    }
+
+    @Override
+    public void insert(E value) {
+        int before = size();
+        super.insert(value);
+        if (logging && size() != before) {
+            record(INSERT, value);
+        }
+    }
+
+    @Override
+    public void delete(E value) {
+        int before = size();
+        super.delete(value);
+        if (logging && size() != before) {
+            record(DELETE, value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        boolean changed = !isEmpty();
+        super.clear();
+        if (logging && changed) {
+            record(CLEAR, null);
+        }
+    }
+
+    /**
+     * Adds all the values of a collection. The values not yet in the tree are found in one sorted pass
+     * and logged first, since large batches rebuild the tree without going through {@link #insert(Object)}.
+     *
+     * @param c the values to add
+     * @return true if the tree changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (!logging) {
+            return super.addAll(c);
+        }
+        List<E> missing = partitionBatch(c, false);
+        if (missing.isEmpty()) {
+            return false;
+        }
+        for (E value : missing) {
+            append(INSERT, value);
+        }
+        logging = false;
+        try {
+            super.addAll(missing);
+        } finally {
+            logging = true;
+        }
+        commit();
+        return true;
+    }
+
+    /**
+     * Removes all the values of a collection. The elements they match are found in one sorted pass and
+     * logged first, since large batches rebuild the tree without going through {@link #delete(Object)}.
+     * The stored elements are logged, so the codec never sees the caller's objects.
+     *
+     * @param c the values to remove
+     * @return true if the tree changed
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (!logging) {
+            return super.removeAll(c);
+        }
+        List<E> found = partitionBatch(c, true);
+        if (found.isEmpty()) {
+            return false;
+        }
+        for (E value : found) {
+            append(DELETE, value);
+        }
+        logging = false;
+        try {
+            super.removeAll(found);
+        } finally {
+            logging = true;
+        }
+        commit();
+        return true;
+    }
+
+    /**
+     * Keeps only the values that are also in a collection, logging a deletion for every value
+     * found missing when the previous contents are merged with the new ones.
+     *
+     * @param c the values to keep
+     * @return true if the tree changed
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (!logging) {
+            return super.retainAll(c);
+        }
+        BinarySearchTree<E> before = snapshot();
+        boolean changed;
+        logging = false;
+        try {
+            changed = super.retainAll(c);
+        } finally {
+            logging = true;
+        }
+        if (changed) {
+            Iterator<E> kept = iterator();
+            E next = kept.hasNext() ? kept.next() : null;
+            for (E value : before) {
+                if (next != null && compare(value, next) == 0) {
+                    next = kept.hasNext() ? kept.next() : null;
+                } else {
+                    append(DELETE, value);
+                }
+            }
+            commit();
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces the contents of the tree. The new contents are persisted by compacting right away,
+     * which is cheaper than logging a record per value.
+     */
+    @Override
+    protected void load(Object[] values) {
+        super.load(values);
+        if (logging) {
+            compactUnchecked();
+        }
+    }
+
+    @Override
+    protected void loadPreOrder(Object[] values) {
+        super.loadPreOrder(values);
+        if (logging) {
+            compactUnchecked();
+        }
+    }
+
+    /**
+     * Appends a record and writes the log as the fsync policy requires.
+     */
+    private void record(byte type, E value) {
+        append(type, value);
+        commit();
+    }
+
+    /**
+     * Encodes a record at the end of the write buffer.
+     *
+     * @param type the kind of modification
+     * @param value the key, or null for a clear
+     */
+    private void append(byte type, E value) {
+        byte[] encoded = value == null || codec.fixedWidth() >= 0 ? null : codec.encode(value);
+        int length = value == null ? 0 : encoded == null ? codec.fixedWidth() : encoded.length;
+        int needed = RECORD_OVERHEAD + length;
+        try {
+            if (buffer.remaining() < needed) {
+                writeBuffer();
+                if (buffer.capacity() < needed) {
+                    buffer = ByteBuffer.allocate(needed);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el registro de escritura anticipada.", e);
+        }
+        int start = buffer.position();
+        buffer.put(type);
+        buffer.putInt(length);
+        if (encoded != null) {
+            buffer.put(encoded);
+        } else if (value != null) {
+            codec.write(value, buffer);
+        }
+        ByteBuffer record = buffer.duplicate();
+        record.flip();
+        record.position(start);
+        checksum.reset();
+        checksum.update(record);
+        buffer.putInt((int) checksum.getValue());
+        pending++;
+        logRecords++;
+    }
+
+    /**
+     * Writes and forces the pending records according to the fsync policy, and compacts the log once it is large enough.
+     */
+    private void commit() {
+        try {
+            if (policy == FsyncPolicy.ALWAYS || pending >= batchSize) {
+                writeBuffer();
+                if (policy != FsyncPolicy.NEVER) {
+                    log.force(false);
+                }
+            }
+            if (logRecords >= compactionThreshold && logRecords >= size()) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el registro de escritura anticipada.", e);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        buffer.clear();
+        pending = 0;
+    }
+
+    /**
+     * Writes every pending record to the log and forces it to disk, whatever the fsync policy.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    public void sync() throws IOException {
+        writeBuffer();
+        log.force(false);
+    }
+
+    /**
+     * Saves the tree to a new snapshot and empties the log. The snapshot is written to a temporary file
+     * and atomically renamed, so a crash at any point leaves either the old or the new snapshot in place.
+     *
+     * @throws IOException if the snapshot or the log cannot be written
+     */
+    public void compact() throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        TreeSnapshots.save(this, temporary, codec, TreeSnapshots.Layout.PRE_ORDER);
+        try (FileChannel written = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory();
+        buffer.clear();
+        pending = 0;
+        log.truncate(0);
+        log.position(0);
+        log.force(true);
+        logRecords = 0;
+    }
+
+    private void compactUnchecked() {
+        try {
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo compactar el registro de escritura anticipada.", e);
+        }
+    }
+
+    /**
+     * Forces the rename of the snapshot to disk. Some platforms cannot open a directory,
+     * in which case the rename is left to the file system.
+     */
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException unsupported) {
+            // Directories cannot be opened as channels on every platform.
+        }
+    }
+
+    /**
+     * Returns the number of records in the log since the last compaction.
+     *
+     * @return the number of log records
+     */
+    public long logRecords() {
+        return logRecords;
+    }
+
+    /**
+     * Writes and forces the pending records, then closes the log.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            log.close();
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package escuelaing.edu.co.BST;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Base class of the binary search trees whose nodes are int ids instead of objects.
+ * <p>
+ * Subclasses provide the storage, the child links and keys of each id, through {@link #left(int)},
+ * {@link #right(int)}, {@link #setLeft(int, int)}, {@link #setRight(int, int)} and the key hooks:
+ * parallel arrays in {@link PrimitiveBinarySearchTree}, direct buffers in {@link OffHeapBinarySearchTree}.
+ * The typed subclasses run the descents with their own key comparisons, passing the key along rather than
+ * keeping it in a field, so that concurrent searches share no mutable state; this class implements the
+ * structure they link into. Freed ids are recycled through a free list threaded over the left links,
+ * and traversals use stacks that grow with the height of the tree, not with its size.
+ * <p>
+ * Inserts and deletes do not rebalance: keys inserted in sorted order degrade the tree into a list and
+ * every operation into a linear walk. Load sorted data with the {@code fromSorted} factories of the
+ * subclasses, and call {@link #rebalance()} after a run of inserts in an unknown order.
+ */
+public abstract class IndexedBinarySearchTree {
+
+    protected static final int NIL = -1;
+
+    private int root = NIL;
+    private int size;
+    private int nextId;
+    private int freeList = NIL;
+
+    /**
+     * Returns the left child of a node.
+     *
+     * @param node the node
+     * @return the left child, or {@link #NIL} if there is none
+     */
+    protected abstract int left(int node);
+
+    /**
+     * Returns the right child of a node.
+     *
+     * @param node the node
+     * @return the right child, or {@link #NIL} if there is none
+     */
+    protected abstract int right(int node);
+
+    /**
+     * Sets the left child of a node.
+     *
+     * @param node the node
+     * @param child the new left child, or {@link #NIL}
+     */
+    protected abstract void setLeft(int node, int child);
+
+    /**
+     * Sets the right child of a node.
+     *
+     * @param node the node
+     * @param child the new right child, or {@link #NIL}
+     */
+    protected abstract void setRight(int node, int child);
+
+    /**
+     * Grows the storage so that it holds at least a number of nodes, keeping the stored ones.
+     *
+     * @param nodes the number of node ids the storage must hold
+     */
+    protected abstract void ensureCapacity(int nodes);
+
+    /**
+     * Copies the key of a node into another node.
+     *
+     * @param from the node whose key is copied
+     * @param to the node receiving the key
+     */
+    protected abstract void copyKey(int from, int to);
+
+    /**
+     * Appends the key of a node to a traversal.
+     *
+     * @param output the traversal being built
+     * @param node the node whose key is appended
+     */
+    protected abstract void appendKey(StringBuilder output, int node);
+
+    /**
+     * Hook run before every walk from the root, for trees whose storage can be released.
+     * Does nothing by default.
+     *
+     * @throws IllegalStateException if the tree can no longer be used
+     */
+    protected void checkOpen() {
+    }
+
+    /**
+     * Links nodes {@code 0} to {@code count - 1} into a minimum-height tree in which node ids follow the
+     * key order, replacing the current content. The subclass stores the sorted keys at the same ids.
+     *
+     * @param count the number of keys
+     */
+    protected final void linkSorted(int count) {
+        checkOpen();
+        ensureCapacity(count);
+        root = build(0, count - 1);
+        size = count;
+        nextId = count;
+        freeList = NIL;
+    }
+
+    /**
+     * Helper method to link a sorted range of ids, taking the middle one as the root of the subtree.
+     */
+    private int build(int low, int high) {
+        if (low > high) {
+            return NIL;
+        }
+        int middle = (low + high) >>> 1;
+        setLeft(middle, build(low, middle - 1));
+        setRight(middle, build(middle + 1, high));
+        return middle;
+    }
+
+    /**
+     * Relinks the tree into minimum height in linear time, without moving keys or allocating memory.
+     * The tree is first straightened into a right-leaning chain by right rotations, which is then
+     * folded back into a balanced tree by rounds of left rotations (the Day-Stout-Warren algorithm).
+     */
+    public void rebalance() {
+        checkOpen();
+        int tail = NIL;
+        int rest = root;
+        while (rest != NIL) {
+            int child = left(rest);
+            if (child == NIL) {
+                tail = rest;
+                rest = right(rest);
+            } else {
+                setLeft(rest, right(child));
+                setRight(child, rest);
+                rest = child;
+                if (tail == NIL) {
+                    root = rest;
+                } else {
+                    setRight(tail, rest);
+                }
+            }
+        }
+        int leaves = size + 1 - Integer.highestOneBit(size + 1);
+        compress(leaves);
+        for (int count = size - leaves; count > 1; count >>= 1) {
+            compress(count >> 1);
+        }
+    }
+
+    /**
+     * Helper method to rotate left every other node along the right spine, a given number of times.
+     */
+    private void compress(int count) {
+        int scanner = NIL;
+        for (int i = 0; i < count; i++) {
+            int child = scanner == NIL ? root : right(scanner);
+            int top = right(child);
+            if (scanner == NIL) {
+                root = top;
+            } else {
+                setRight(scanner, top);
+            }
+            setRight(child, left(top));
+            setLeft(top, child);
+            scanner = top;
+        }
+    }
+
+    /**
+     * Returns the root node, where the descents of the subclasses start.
+     *
+     * @return the root, or {@link #NIL} if the tree is empty
+     */
+    protected final int root() {
+        checkOpen();
+        return root;
+    }
+
+    /**
+     * Links a new leaf where a descent for a missing key ended. The subclass then stores the key
+     * in the returned node.
+     *
+     * @param parent the last node of the descent, or {@link #NIL} if the tree is empty
+     * @param cmp the comparison of the key with the parent
+     * @return the new node
+     */
+    protected final int attach(int parent, int cmp) {
+        int node = allocate();
+        if (parent == NIL) {
+            root = node;
+        } else if (cmp < 0) {
+            setLeft(parent, node);
+        } else {
+            setRight(parent, node);
+        }
+        size++;
+        return node;
+    }
+
+    /**
+     * Removes the key of a node found by a descent. A node with two children takes the key of its
+     * in-order successor, whose node is then unlinked.
+     *
+     * @param parent the parent of the node, or {@link #NIL} if the node is the root
+     * @param node the node holding the key to remove
+     */
+    protected final void detach(int parent, int node) {
+        int current = node;
+        if (left(current) != NIL && right(current) != NIL) {
+            int successorParent = current;
+            int successor = right(current);
+            while (left(successor) != NIL) {
+                successorParent = successor;
+                successor = left(successor);
+            }
+            copyKey(successor, current);
+            parent = successorParent;
+            current = successor;
+        }
+        int child = left(current) != NIL ? left(current) : right(current);
+        if (parent == NIL) {
+            root = child;
+        } else if (left(parent) == current) {
+            setLeft(parent, child);
+        } else {
+            setRight(parent, child);
+        }
+        release(current);
+        size--;
+    }
+
+    /**
+     * Returns the node of the smallest key.
+     *
+     * @return the node
+     * @throws NoSuchElementException if the tree is empty
+     */
+    protected final int minNode() {
+        checkOpen();
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int current = root;
+        while (left(current) != NIL) {
+            current = left(current);
+        }
+        return current;
+    }
+
+    /**
+     * Returns the node of the largest key.
+     *
+     * @return the node
+     * @throws NoSuchElementException if the tree is empty
+     */
+    protected final int maxNode() {
+        checkOpen();
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int current = root;
+        while (right(current) != NIL) {
+            current = right(current);
+        }
+        return current;
+    }
+
+    /**
+     * Calculates the height of the tree with a depth-first walk, whose stacks hold at most
+     * one pending sibling per level.
+     *
+     * @return the height of the tree, or -1 if the tree is empty
+     */
+    public int height() {
+        checkOpen();
+        if (root == NIL) {
+            return -1;
+        }
+        IntStack nodes = new IntStack();
+        IntStack depths = new IntStack();
+        nodes.push(root);
+        depths.push(0);
+        int height = 0;
+        while (!nodes.isEmpty()) {
+            int node = nodes.pop();
+            int depth = depths.pop();
+            height = Math.max(height, depth);
+            if (right(node) != NIL) {
+                nodes.push(right(node));
+                depths.push(depth + 1);
+            }
+            if (left(node) != NIL) {
+                nodes.push(left(node));
+                depths.push(depth + 1);
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Returns the number of keys in the tree.
+     *
+     * @return the size of the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the tree is empty.
+     *
+     * @return true if the tree has no keys
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys from the tree, keeping the allocated storage for reuse.
+     */
+    public void clear() {
+        checkOpen();
+        root = NIL;
+        size = 0;
+        nextId = 0;
+        freeList = NIL;
+    }
+
+    /**
+     * Visits the nodes in ascending key order.
+     *
+     * @param action the action to run for each node
+     */
+    protected final void forEachNodeInOrder(IntConsumer action) {
+        checkOpen();
+        IntStack stack = new IntStack();
+        int current = root;
+        while (current != NIL || !stack.isEmpty()) {
+            while (current != NIL) {
+                stack.push(current);
+                current = left(current);
+            }
+            current = stack.pop();
+            action.accept(current);
+            current = right(current);
+        }
+    }
+
+    /**
+     * Visits the nodes in pre-order (root, left, right).
+     *
+     * @param action the action to run for each node
+     */
+    protected final void forEachNodePreOrder(IntConsumer action) {
+        checkOpen();
+        if (root == NIL) return;
+        IntStack stack = new IntStack();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            int current = stack.pop();
+            action.accept(current);
+            if (right(current) != NIL) stack.push(right(current));
+            if (left(current) != NIL) stack.push(left(current));
+        }
+    }
+
+    /**
+     * Visits the nodes in post-order (left, right, root).
+     *
+     * @param action the action to run for each node
+     */
+    protected final void forEachNodePostOrder(IntConsumer action) {
+        checkOpen();
+        IntStack stack = new IntStack();
+        int current = root;
+        int lastVisited = NIL;
+        while (current != NIL || !stack.isEmpty()) {
+            while (current != NIL) {
+                stack.push(current);
+                current = left(current);
+            }
+            int peek = stack.peek();
+            if (right(peek) != NIL && right(peek) != lastVisited) {
+                current = right(peek);
+            } else {
+                action.accept(peek);
+                lastVisited = stack.pop();
+            }
+        }
+    }
+
+    /**
+     * Visits the nodes level by level, starting from the root.
+     *
+     * @param action the action to run for each node
+     */
+    protected final void forEachNodeLevelOrder(IntConsumer action) {
+        forEachLevel(level -> {
+            for (int i = 0; i < level.size; i++) {
+                action.accept(level.values[i]);
+            }
+        });
+    }
+
+    /**
+     * Walks the tree one level at a time, holding only the current and the next level.
+     */
+    private void forEachLevel(Consumer<IntStack> action) {
+        checkOpen();
+        if (root == NIL) return;
+        IntStack level = new IntStack();
+        IntStack next = new IntStack();
+        level.push(root);
+        while (!level.isEmpty()) {
+            action.accept(level);
+            next.size = 0;
+            for (int i = 0; i < level.size; i++) {
+                int node = level.values[i];
+                if (left(node) != NIL) next.push(left(node));
+                if (right(node) != NIL) next.push(right(node));
+            }
+            IntStack swap = level;
+            level = next;
+            next = swap;
+        }
+    }
+
+    /**
+     * Performs an in-order traversal of the tree (left, root, right).
+     *
+     * @return a string representation of the tree in in-order
+     */
+    public String inOrderTraversal() {
+        StringBuilder output = new StringBuilder();
+        forEachNodeInOrder(node -> appendKey(output, node));
+        return output.toString().trim();
+    }
+
+    /**
+     * Performs a pre-order traversal (root, left, right) of the tree.
+     *
+     * @return a string representation of the tree
+     */
+    public String preOrderTraversal() {
+        StringBuilder output = new StringBuilder();
+        forEachNodePreOrder(node -> appendKey(output, node));
+        return output.toString().trim();
+    }
+
+    /**
+     * Performs a post-order traversal (left, right, root) of the tree.
+     *
+     * @return a string representation of the tree
+     */
+    public String postOrderTraversal() {
+        StringBuilder output = new StringBuilder();
+        forEachNodePostOrder(node -> appendKey(output, node));
+        return output.toString().trim();
+    }
+
+    /**
+     * Performs a level-order traversal (breadth-first search) of the tree.
+     *
+     * @return a string representation of the tree in level order
+     */
+    public String levelOrderTraversal() {
+        StringBuilder output = new StringBuilder();
+        forEachNodeLevelOrder(node -> appendKey(output, node));
+        return output.toString().trim();
+    }
+
+    /**
+     * Takes a node id from the free list, or the next unused one, growing the storage when full.
+     */
+    private int allocate() {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left(node);
+        } else {
+            if (nextId == Integer.MAX_VALUE) {
+                throw new IllegalStateException("El árbol alcanzó el número máximo de nodos.");
+            }
+            ensureCapacity(nextId + 1);
+            node = nextId++;
+        }
+        setLeft(node, NIL);
+        setRight(node, NIL);
+        return node;
+    }
+
+    /**
+     * Returns a node id to the free list.
+     */
+    private void release(int node) {
+        setLeft(node, freeList);
+        setRight(node, NIL);
+        freeList = node;
+    }
+}
@@ -0,0 +1,212 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A binary search tree specialized for {@code int} keys.
+ * Keys are stored unboxed in an array indexed by node id; the node structure is shared with the other
+ * primitive trees through {@link PrimitiveBinarySearchTree}.
+ */
+public class IntBinarySearchTree extends PrimitiveBinarySearchTree {
+
+    private int[] keys;
+
+    public IntBinarySearchTree() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty tree with room for a number of nodes before its arrays need to grow.
+     * 
+     * @param initialCapacity the initial number of node slots
+     */
+    public IntBinarySearchTree(int initialCapacity) {
+        super(initialCapacity);
+        keys = new int[capacity()];
+    }
+
+    /**
+     * Builds a minimum-height tree from keys in linear time when they are already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param values the keys to load
+     * @return a balanced tree holding the distinct keys
+     */
+    public static IntBinarySearchTree fromSorted(int... values) {
+        int[] sorted = values.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (Integer.compare(sorted[i - 1], sorted[i]) > 0) {
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        int count = 0;
+        for (int value : sorted) {
+            if (count == 0 || Integer.compare(sorted[count - 1], value) != 0) {
+                sorted[count++] = value;
+            }
+        }
+        IntBinarySearchTree tree = new IntBinarySearchTree(count);
+        System.arraycopy(sorted, 0, tree.keys, 0, count);
+        tree.linkSorted(count);
+        return tree;
+    }
+
+    @Override
+    protected void copyKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void resizeKeys(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    protected void appendKey(StringBuilder output, int node) {
+        output.append(keys[node]).append(' ');
+    }
+
+    /**
+     * Inserts a key into the tree. Duplicate keys are ignored.
+     * 
+     * @param key the key to insert
+     * @return true if the key was added
+     */
+    public boolean insert(int key) {
+        int parent = NIL;
+        int cmp = 0;
+        int current = root();
+        while (current != NIL) {
+            cmp = Integer.compare(key, keys[current]);
+            if (cmp == 0) {
+                return false;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        int node = attach(parent, cmp);
+        keys[node] = key;
+        return true;
+    }
+
+    /**
+     * Searches for a key in the tree.
+     * 
+     * @param key the key to search for
+     * @return true if the key is in the tree
+     */
+    public boolean search(int key) {
+        int current = root();
+        while (current != NIL) {
+            int cmp = Integer.compare(key, keys[current]);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tree contains a key.
+     * 
+     * @param key the key to check
+     * @return true if the key is in the tree
+     */
+    public boolean contains(int key) {
+        return search(key);
+    }
+
+    /**
+     * Deletes a key from the tree. A node with two children takes the key of its in-order
+     * successor, whose node is then unlinked.
+     * 
+     * @param key the key to delete
+     * @return true if the key was removed
+     */
+    public boolean delete(int key) {
+        int parent = NIL;
+        int current = root();
+        while (current != NIL) {
+            int cmp = Integer.compare(key, keys[current]);
+            if (cmp == 0) {
+                detach(parent, current);
+                return true;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the minimum key in the tree.
+     * 
+     * @return the smallest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int findMin() {
+        return keys[minNode()];
+    }
+
+    /**
+     * Finds the maximum key in the tree.
+     * 
+     * @return the largest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int findMax() {
+        return keys[maxNode()];
+    }
+
+    /**
+     * Visits the keys in ascending order.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachInOrder(IntConsumer action) {
+        forEachNodeInOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys in pre-order (root, left, right).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPreOrder(IntConsumer action) {
+        forEachNodePreOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys in post-order (left, right, root).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPostOrder(IntConsumer action) {
+        forEachNodePostOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Visits the keys level by level, starting from the root.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachLevelOrder(IntConsumer action) {
+        forEachNodeLevelOrder(node -> action.accept(keys[node]));
+    }
+
+    /**
+     * Copies the keys into an array in ascending order.
+     * 
+     * @return the sorted keys
+     */
+    public int[] toArray() {
+        int[] values = new int[size()];
+        int[] index = {0};
+        forEachInOrder(key -> values[index[0]++] = key);
+        return values;
+    }
+}
@@ -0,0 +1,31 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+
+/**
+ * Growable stack of node ids used by the traversals of the array and off-heap trees, so that their
+ * memory follows the height of the tree instead of its size.
+ */
+final class IntStack {
+    int[] values = new int[32];
+    int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int pop() {
+        return values[--size];
+    }
+
+    int peek() {
+        return values[size - 1];
+    }
+}
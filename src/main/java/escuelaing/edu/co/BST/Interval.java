@@ -0,0 +1,79 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Objects;
+
+/**
+ * A closed interval {@code [start, end]} of comparable points, as stored by an {@link IntervalTree}.
+ * Intervals are ordered by start and then by end.
+ *
+ * @param <T> the type of the endpoints
+ */
+public final class Interval<T extends Comparable<? super T>> implements Comparable<Interval<T>> {
+
+    private final T start;
+    private final T end;
+
+    /**
+     * Creates the interval {@code [start, end]}.
+     *
+     * @param start the first point of the interval
+     * @param end the last point of the interval
+     * @throws IllegalArgumentException if the start is greater than the end
+     */
+    public Interval(T start, T end) {
+        if (start.compareTo(Objects.requireNonNull(end)) > 0) {
+            throw new IllegalArgumentException("El inicio del intervalo es mayor que su fin.");
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    public T start() {
+        return start;
+    }
+
+    public T end() {
+        return end;
+    }
+
+    /**
+     * Checks if this interval shares at least one point with another one.
+     *
+     * @param other the other interval
+     * @return true if the intervals overlap
+     */
+    public boolean overlaps(Interval<T> other) {
+        return start.compareTo(other.end) <= 0 && other.start.compareTo(end) <= 0;
+    }
+
+    /**
+     * Checks if the interval contains a point.
+     *
+     * @param point the point
+     * @return true if the point lies between the start and the end, both included
+     */
+    public boolean contains(T point) {
+        return start.compareTo(point) <= 0 && point.compareTo(end) <= 0;
+    }
+
+    @Override
+    public int compareTo(Interval<T> other) {
+        int cmp = start.compareTo(other.start);
+        return cmp != 0 ? cmp : end.compareTo(other.end);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Interval<?> other && start.equals(other.start) && end.equals(other.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.hashCode() + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + "]";
+    }
+}
@@ -0,0 +1,122 @@
+package escuelaing.edu.co.BST;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An interval tree: an AVL tree of {@link Interval}s ordered by start, where every node also stores the
+ * largest end point of its subtree as its {@link AggregateTree} aggregate. Overlap queries skip every subtree
+ * whose largest end lies before the query and stop at the first interval starting after it, so they visit
+ * O(log n) nodes plus those around the k intervals reported instead of scanning the whole tree.
+ * Intervals are inserted and deleted with the usual tree operations; equal intervals are stored once.
+ *
+ * @param <T> the type of the endpoints
+ */
+public class IntervalTree<T extends Comparable<? super T>> extends AggregateTree<Interval<T>, T> {
+
+    /**
+     * Creates an empty interval tree.
+     */
+    public IntervalTree() {
+        super(new MaxEnd<>());
+    }
+
+    /**
+     * Aggregate keeping the largest end point of a subtree, or null for an empty one.
+     */
+    private static final class MaxEnd<T extends Comparable<? super T>> implements TreeAggregate<Interval<T>, T> {
+        @Override
+        public T identity() {
+            return null;
+        }
+
+        @Override
+        public T of(Interval<T> value) {
+            return value.end();
+        }
+
+        @Override
+        public T combine(T left, T right) {
+            if (left == null) {
+                return right;
+            }
+            return right == null || left.compareTo(right) >= 0 ? left : right;
+        }
+    }
+
+    /**
+     * Inserts the interval {@code [start, end]}.
+     *
+     * @param start the first point of the interval
+     * @param end the last point of the interval
+     * @return true if the interval was not already in the tree
+     */
+    public boolean add(T start, T end) {
+        return add(new Interval<>(start, end));
+    }
+
+    /**
+     * Deletes the interval {@code [start, end]}.
+     *
+     * @param start the first point of the interval
+     * @param end the last point of the interval
+     * @return true if the interval was in the tree
+     */
+    public boolean remove(T start, T end) {
+        return remove(new Interval<>(start, end));
+    }
+
+    /**
+     * Returns the intervals that share at least one point with a query interval, ordered by start.
+     * The in-order walk never descends into a subtree whose largest end is before the query start,
+     * and stops at the first interval starting after the query end.
+     *
+     * @param query the query interval
+     * @return the overlapping intervals
+     */
+    public List<Interval<T>> overlapping(Interval<T> query) {
+        List<Interval<T>> result = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        Node current = root();
+        while (true) {
+            while (current != null && summaryOf(current).compareTo(query.start()) >= 0) {
+                stack.push(current);
+                current = current.left;
+            }
+            if (stack.isEmpty()) {
+                return result;
+            }
+            Node node = stack.pop();
+            if (node.value.start().compareTo(query.end()) > 0) {
+                return result;
+            }
+            if (node.value.end().compareTo(query.start()) >= 0) {
+                result.add(node.value);
+            }
+            current = node.right;
+        }
+    }
+
+    /**
+     * Returns the intervals that overlap {@code [start, end]}, ordered by start.
+     *
+     * @param start the first point of the query
+     * @param end the last point of the query
+     * @return the overlapping intervals
+     */
+    public List<Interval<T>> overlapping(T start, T end) {
+        return overlapping(new Interval<>(start, end));
+    }
+
+    /**
+     * Returns the intervals that contain a point, ordered by start.
+     *
+     * @param point the point
+     * @return the intervals containing the point
+     */
+    public List<Interval<T>> stabbing(T point) {
+        return overlapping(new Interval<>(point, point));
+    }
+}
@@ -0,0 +1,193 @@
+package escuelaing.edu.co.BST;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts tree keys to and from their binary form in a {@link TreeSnapshots} file.
+ * Fixed-width codecs are read back without any per-key header; variable-width codecs are stored
+ * with a four-byte length prefix written by the snapshot format itself.
+ *
+ * @param <E> the type of the keys
+ */
+public interface KeyCodec<E> {
+
+    /**
+     * Returns the name stored in the file header, used to check that a file is read with the codec that wrote it.
+     *
+     * @return the codec name
+     */
+    String name();
+
+    /**
+     * Returns the number of bytes of every encoded key, or -1 if the width depends on the key.
+     *
+     * @return the fixed width in bytes, or -1
+     */
+    int fixedWidth();
+
+    /**
+     * Returns the number of bytes needed to encode a key.
+     *
+     * @param value the key
+     * @return the encoded length in bytes
+     */
+    int encodedLength(E value);
+
+    /**
+     * Writes a key at the current position of a buffer.
+     *
+     * @param value the key to write
+     * @param buffer the buffer, with at least {@link #encodedLength(Object)} bytes remaining
+     */
+    void write(E value, ByteBuffer buffer);
+
+    /**
+     * Reads a key from the current position of a buffer. The buffer may be a file mapping that is
+     * released after reading, so the key must not keep a reference to it.
+     *
+     * @param buffer the buffer
+     * @param length the encoded length of the key
+     * @return the decoded key
+     */
+    E read(ByteBuffer buffer, int length);
+
+    /**
+     * Encodes a key into a new array. Variable-width keys are written through it, so the length prefix
+     * is always the length of the bytes actually written.
+     *
+     * @param value the key
+     * @return the encoded key
+     */
+    default byte[] encode(E value) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength(value));
+        write(value, buffer);
+        return buffer.array();
+    }
+
+    KeyCodec<Integer> INTEGER = new KeyCodec<>() {
+        @Override
+        public String name() {
+            return "int32";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int encodedLength(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int length) {
+            return buffer.getInt();
+        }
+    };
+
+    KeyCodec<Long> LONG = new KeyCodec<>() {
+        @Override
+        public String name() {
+            return "int64";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int encodedLength(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int length) {
+            return buffer.getLong();
+        }
+    };
+
+    KeyCodec<Double> DOUBLE = new KeyCodec<>() {
+        @Override
+        public String name() {
+            return "float64";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int encodedLength(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int length) {
+            return buffer.getDouble();
+        }
+    };
+
+    /**
+     * UTF-8 strings. As with {@link String#getBytes(java.nio.charset.Charset)}, an unpaired surrogate
+     * is encoded as {@code '?'}.
+     */
+    KeyCodec<String> STRING = new KeyCodec<>() {
+        @Override
+        public String name() {
+            return "utf8";
+        }
+
+        @Override
+        public int fixedWidth() {
+            return -1;
+        }
+
+        @Override
+        public int encodedLength(String value) {
+            return encode(value).length;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            buffer.put(encode(value));
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int length) {
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+    };
+}
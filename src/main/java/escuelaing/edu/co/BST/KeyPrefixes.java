@@ -0,0 +1,46 @@
+package escuelaing.edu.co.BST;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Key prefix functions for {@link BinarySearchTree#BinarySearchTree(java.util.Comparator, ToLongFunction)}.
+ * A prefix packs the leading part of a key into a long whose unsigned order agrees with the order of
+ * the keys, so most comparisons during a descent are decided without touching the keys themselves.
+ */
+public final class KeyPrefixes {
+
+    /**
+     * Number of UTF-16 characters packed into a string prefix.
+     */
+    private static final int STRING_PREFIX_CHARS = 4;
+
+    /**
+     * Packs the first four characters of a string, zero padded, into a prefix that agrees with
+     * {@link String#compareTo(String)}. Strings sharing their first four characters fall back to the comparator.
+     */
+    public static final ToLongFunction<String> STRING = KeyPrefixes::stringPrefix;
+
+    private KeyPrefixes() {
+    }
+
+    /**
+     * Returns a prefix function for values ordered by the natural order of a string key.
+     *
+     * @param extractor the function extracting the string key of a value
+     * @param <T> the type of the values
+     * @return the prefix function
+     */
+    public static <T> ToLongFunction<T> string(Function<? super T, String> extractor) {
+        return value -> stringPrefix(extractor.apply(value));
+    }
+
+    private static long stringPrefix(String key) {
+        long prefix = 0;
+        int length = Math.min(key.length(), STRING_PREFIX_CHARS);
+        for (int i = 0; i < length; i++) {
+            prefix |= (long) key.charAt(i) << (48 - 16 * i);
+        }
+        return prefix;
+    }
+}
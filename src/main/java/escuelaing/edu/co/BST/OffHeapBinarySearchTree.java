@@ -0,0 +1,139 @@
+package escuelaing.edu.co.BST;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Base class of the binary search trees whose nodes live outside the Java heap.
+ * <p>
+ * Nodes are fixed-size slots in direct {@link ByteBuffer} segments: the left and right child slot ids
+ * (int offsets, -1 for none) followed by the key bytes. A tree with hundreds of millions of keys is then
+ * a handful of large buffers instead of one object per node, which the garbage collector never has to scan.
+ * Subclasses read and write keys through {@link #segment(int)} and {@link #keyOffset(int)}; the tree
+ * structure is shared with the primitive trees through {@link IndexedBinarySearchTree}, and {@link #close()}
+ * releases the memory without waiting for the garbage collector.
+ */
+public abstract class OffHeapBinarySearchTree extends IndexedBinarySearchTree implements AutoCloseable {
+
+    /**
+     * Slots per segment; segments are allocated one at a time as the tree grows.
+     */
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private static final int LEFT = 0;
+    private static final int RIGHT = Integer.BYTES;
+    private static final int KEY = 2 * Integer.BYTES;
+
+    private final int keyWidth;
+    private final int stride;
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int segmentCount;
+    private boolean closed;
+
+    /**
+     * Creates an empty tree for keys of a fixed width.
+     *
+     * @param keyWidth the number of bytes of every key
+     */
+    protected OffHeapBinarySearchTree(int keyWidth) {
+        if (keyWidth < 1 || keyWidth > (Integer.MAX_VALUE >> SEGMENT_SHIFT) - KEY - 7) {
+            throw new IllegalArgumentException("Ancho de clave no soportado: " + keyWidth);
+        }
+        this.keyWidth = keyWidth;
+        // Rounded up to whole longs, so that 8-byte keys stay aligned.
+        this.stride = (KEY + keyWidth + 7) & ~7;
+    }
+
+    /**
+     * Returns the segment holding a slot, for subclasses reading or writing keys.
+     *
+     * @param slot the slot
+     * @return the buffer holding the slot
+     */
+    protected final ByteBuffer segment(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT];
+    }
+
+    /**
+     * Returns the position of the key of a slot inside its {@link #segment(int)}.
+     *
+     * @param slot the slot
+     * @return the byte offset of the key
+     */
+    protected final int keyOffset(int slot) {
+        return (slot & SEGMENT_MASK) * stride + KEY;
+    }
+
+    @Override
+    protected final int left(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SEGMENT_MASK) * stride + LEFT);
+    }
+
+    @Override
+    protected final int right(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SEGMENT_MASK) * stride + RIGHT);
+    }
+
+    @Override
+    protected final void setLeft(int slot, int child) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SEGMENT_MASK) * stride + LEFT, child);
+    }
+
+    @Override
+    protected final void setRight(int slot, int child) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SEGMENT_MASK) * stride + RIGHT, child);
+    }
+
+    @Override
+    protected final void copyKey(int from, int to) {
+        segment(to).put(keyOffset(to), segment(from), keyOffset(from), keyWidth);
+    }
+
+    /**
+     * Adds segments until the tree has room for a number of slots.
+     */
+    @Override
+    protected final void ensureCapacity(int nodes) {
+        while (nodes > (long) segmentCount << SEGMENT_SHIFT) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount * 2);
+            }
+            segments[segmentCount++] = ByteBuffer.allocateDirect(stride << SEGMENT_SHIFT).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Returns the number of off-heap bytes reserved by the tree.
+     *
+     * @return the total capacity of the segments
+     */
+    public long allocatedBytes() {
+        return (long) segmentCount * stride << SEGMENT_SHIFT;
+    }
+
+    /**
+     * Releases the off-heap memory. The tree cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        clear();
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.release(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = 0;
+    }
+
+    @Override
+    protected final void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("El árbol fue cerrado y su memoria liberada.");
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package escuelaing.edu.co.BST;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A binary search tree of fixed-length byte keys whose nodes live in off-heap memory.
+ * Keys are ordered lexicographically as unsigned bytes, which matches the order of big-endian
+ * encoded numbers, UUIDs or hashes. Keys passed in are copied, never kept, and keys handed out are fresh
+ * arrays. The string traversals print keys in hexadecimal.
+ * Call {@link #close()} to release the memory.
+ */
+public class OffHeapBytesBinarySearchTree extends OffHeapBinarySearchTree {
+
+    private final int keyLength;
+
+    /**
+     * Creates an empty tree for keys of the given length.
+     *
+     * @param keyLength the number of bytes of every key
+     */
+    public OffHeapBytesBinarySearchTree(int keyLength) {
+        super(keyLength);
+        this.keyLength = keyLength;
+    }
+
+    /**
+     * Builds a minimum-height tree from keys in linear time when they are already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     *
+     * @param keyLength the number of bytes of every key
+     * @param keys the keys to load
+     * @return a balanced tree holding copies of the distinct keys
+     * @throws IllegalArgumentException if a key does not have the given length
+     */
+    public static OffHeapBytesBinarySearchTree fromSorted(int keyLength, byte[]... keys) {
+        OffHeapBytesBinarySearchTree tree = new OffHeapBytesBinarySearchTree(keyLength);
+        byte[][] sorted = keys.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (Arrays.compareUnsigned(sorted[i - 1], sorted[i]) > 0) {
+                Arrays.sort(sorted, Arrays::compareUnsigned);
+                break;
+            }
+        }
+        int count = 0;
+        for (byte[] key : sorted) {
+            tree.checkLength(key);
+            if (count == 0 || Arrays.compareUnsigned(sorted[count - 1], key) != 0) {
+                sorted[count++] = key;
+            }
+        }
+        tree.linkSorted(count);
+        for (int slot = 0; slot < count; slot++) {
+            tree.segment(slot).put(tree.keyOffset(slot), sorted[slot], 0, keyLength);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the length of the keys stored in the tree.
+     *
+     * @return the key length in bytes
+     */
+    public int keyLength() {
+        return keyLength;
+    }
+
+    /**
+     * Compares a key with the key stored in a slot, as unsigned bytes.
+     */
+    private int compare(byte[] key, int slot) {
+        ByteBuffer segment = segment(slot);
+        int offset = keyOffset(slot);
+        for (int i = 0; i < keyLength; i++) {
+            int cmp = Integer.compare(key[i] & 0xFF, segment.get(offset + i) & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private byte[] key(int slot) {
+        byte[] key = new byte[keyLength];
+        segment(slot).get(keyOffset(slot), key, 0, keyLength);
+        return key;
+    }
+
+    @Override
+    protected void appendKey(StringBuilder output, int slot) {
+        output.append(HexFormat.of().formatHex(key(slot))).append(' ');
+    }
+
+    private void checkLength(byte[] key) {
+        if (key.length != keyLength) {
+            throw new IllegalArgumentException("La clave debe tener " + keyLength + " bytes: " + key.length);
+        }
+    }
+
+    /**
+     * Inserts a key into the tree. Duplicate keys are ignored.
+     *
+     * @param key the key to insert
+     * @return true if the key was added
+     * @throws IllegalArgumentException if the key does not have the tree's key length
+     */
+    public boolean insert(byte[] key) {
+        checkLength(key);
+        int parent = NIL;
+        int cmp = 0;
+        int current = root();
+        while (current != NIL) {
+            cmp = compare(key, current);
+            if (cmp == 0) {
+                return false;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        int slot = attach(parent, cmp);
+        segment(slot).put(keyOffset(slot), key, 0, keyLength);
+        return true;
+    }
+
+    /**
+     * Searches for a key in the tree.
+     *
+     * @param key the key to search for
+     * @return true if the key is in the tree
+     * @throws IllegalArgumentException if the key does not have the tree's key length
+     */
+    public boolean search(byte[] key) {
+        checkLength(key);
+        int current = root();
+        while (current != NIL) {
+            int cmp = compare(key, current);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tree contains a key.
+     *
+     * @param key the key to check
+     * @return true if the key is in the tree
+     */
+    public boolean contains(byte[] key) {
+        return search(key);
+    }
+
+    /**
+     * Deletes a key from the tree.
+     *
+     * @param key the key to delete
+     * @return true if the key was removed
+     * @throws IllegalArgumentException if the key does not have the tree's key length
+     */
+    public boolean delete(byte[] key) {
+        checkLength(key);
+        int parent = NIL;
+        int current = root();
+        while (current != NIL) {
+            int cmp = compare(key, current);
+            if (cmp == 0) {
+                detach(parent, current);
+                return true;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the minimum key in the tree.
+     *
+     * @return a copy of the smallest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public byte[] findMin() {
+        return key(minNode());
+    }
+
+    /**
+     * Finds the maximum key in the tree.
+     *
+     * @return a copy of the largest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public byte[] findMax() {
+        return key(maxNode());
+    }
+
+    /**
+     * Visits copies of the keys in ascending order.
+     *
+     * @param action the action to run for each key
+     */
+    public void forEachInOrder(Consumer<byte[]> action) {
+        forEachNodeInOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits copies of the keys in pre-order (root, left, right).
+     *
+     * @param action the action to run for each key
+     */
+    public void forEachPreOrder(Consumer<byte[]> action) {
+        forEachNodePreOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits copies of the keys in post-order (left, right, root).
+     *
+     * @param action the action to run for each key
+     */
+    public void forEachPostOrder(Consumer<byte[]> action) {
+        forEachNodePostOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits copies of the keys level by level, starting from the root.
+     *
+     * @param action the action to run for each key
+     */
+    public void forEachLevelOrder(Consumer<byte[]> action) {
+        forEachNodeLevelOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Copies the keys into an array in ascending order.
+     *
+     * @return the sorted keys
+     */
+    public byte[][] toArray() {
+        byte[][] values = new byte[size()][];
+        int[] index = {0};
+        forEachInOrder(key -> values[index[0]++] = key);
+        return values;
+    }
+}
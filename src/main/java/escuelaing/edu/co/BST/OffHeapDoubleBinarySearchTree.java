@@ -0,0 +1,195 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A binary search tree of {@code double} keys whose nodes live in off-heap memory.
+ * Each node takes 16 bytes outside the Java heap and none inside it, so very large trees
+ * neither grow the heap nor lengthen garbage collection pauses. Call {@link #close()} to release the memory.
+ */
+public class OffHeapDoubleBinarySearchTree extends OffHeapBinarySearchTree {
+
+    public OffHeapDoubleBinarySearchTree() {
+        super(Double.BYTES);
+    }
+
+    /**
+     * Builds a minimum-height tree from keys in linear time when they are already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param values the keys to load
+     * @return a balanced tree holding the distinct keys
+     */
+    public static OffHeapDoubleBinarySearchTree fromSorted(double... values) {
+        double[] sorted = values.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (Double.compare(sorted[i - 1], sorted[i]) > 0) {
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        int count = 0;
+        for (double value : sorted) {
+            if (count == 0 || Double.compare(sorted[count - 1], value) != 0) {
+                sorted[count++] = value;
+            }
+        }
+        OffHeapDoubleBinarySearchTree tree = new OffHeapDoubleBinarySearchTree();
+        tree.linkSorted(count);
+        for (int slot = 0; slot < count; slot++) {
+            tree.segment(slot).putDouble(tree.keyOffset(slot), sorted[slot]);
+        }
+        return tree;
+    }
+
+    private double key(int slot) {
+        return segment(slot).getDouble(keyOffset(slot));
+    }
+
+    @Override
+    protected void appendKey(StringBuilder output, int slot) {
+        output.append(key(slot)).append(' ');
+    }
+
+    /**
+     * Inserts a key into the tree. Duplicate keys are ignored.
+     * 
+     * @param key the key to insert
+     * @return true if the key was added
+     */
+    public boolean insert(double key) {
+        int parent = NIL;
+        int cmp = 0;
+        int current = root();
+        while (current != NIL) {
+            cmp = Double.compare(key, key(current));
+            if (cmp == 0) {
+                return false;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        int slot = attach(parent, cmp);
+        segment(slot).putDouble(keyOffset(slot), key);
+        return true;
+    }
+
+    /**
+     * Searches for a key in the tree.
+     * 
+     * @param key the key to search for
+     * @return true if the key is in the tree
+     */
+    public boolean search(double key) {
+        int current = root();
+        while (current != NIL) {
+            int cmp = Double.compare(key, key(current));
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tree contains a key.
+     * 
+     * @param key the key to check
+     * @return true if the key is in the tree
+     */
+    public boolean contains(double key) {
+        return search(key);
+    }
+
+    /**
+     * Deletes a key from the tree.
+     * 
+     * @param key the key to delete
+     * @return true if the key was removed
+     */
+    public boolean delete(double key) {
+        int parent = NIL;
+        int current = root();
+        while (current != NIL) {
+            int cmp = Double.compare(key, key(current));
+            if (cmp == 0) {
+                detach(parent, current);
+                return true;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the minimum key in the tree.
+     * 
+     * @return the smallest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public double findMin() {
+        return key(minNode());
+    }
+
+    /**
+     * Finds the maximum key in the tree.
+     * 
+     * @return the largest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public double findMax() {
+        return key(maxNode());
+    }
+
+    /**
+     * Visits the keys in ascending order.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachInOrder(DoubleConsumer action) {
+        forEachNodeInOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys in pre-order (root, left, right).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPreOrder(DoubleConsumer action) {
+        forEachNodePreOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys in post-order (left, right, root).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPostOrder(DoubleConsumer action) {
+        forEachNodePostOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys level by level, starting from the root.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachLevelOrder(DoubleConsumer action) {
+        forEachNodeLevelOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Copies the keys into an array in ascending order.
+     * 
+     * @return the sorted keys
+     */
+    public double[] toArray() {
+        double[] values = new double[size()];
+        int[] index = {0};
+        forEachInOrder(key -> values[index[0]++] = key);
+        return values;
+    }
+}
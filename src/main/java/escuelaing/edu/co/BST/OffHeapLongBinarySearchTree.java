@@ -0,0 +1,195 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A binary search tree of {@code long} keys whose nodes live in off-heap memory.
+ * Each node takes 16 bytes outside the Java heap and none inside it, so very large trees
+ * neither grow the heap nor lengthen garbage collection pauses. Call {@link #close()} to release the memory.
+ */
+public class OffHeapLongBinarySearchTree extends OffHeapBinarySearchTree {
+
+    public OffHeapLongBinarySearchTree() {
+        super(Long.BYTES);
+    }
+
+    /**
+     * Builds a minimum-height tree from keys in linear time when they are already sorted.
+     * Unsorted input is sorted first, and duplicates are dropped.
+     * 
+     * @param values the keys to load
+     * @return a balanced tree holding the distinct keys
+     */
+    public static OffHeapLongBinarySearchTree fromSorted(long... values) {
+        long[] sorted = values.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (Long.compare(sorted[i - 1], sorted[i]) > 0) {
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        int count = 0;
+        for (long value : sorted) {
+            if (count == 0 || Long.compare(sorted[count - 1], value) != 0) {
+                sorted[count++] = value;
+            }
+        }
+        OffHeapLongBinarySearchTree tree = new OffHeapLongBinarySearchTree();
+        tree.linkSorted(count);
+        for (int slot = 0; slot < count; slot++) {
+            tree.segment(slot).putLong(tree.keyOffset(slot), sorted[slot]);
+        }
+        return tree;
+    }
+
+    private long key(int slot) {
+        return segment(slot).getLong(keyOffset(slot));
+    }
+
+    @Override
+    protected void appendKey(StringBuilder output, int slot) {
+        output.append(key(slot)).append(' ');
+    }
+
+    /**
+     * Inserts a key into the tree. Duplicate keys are ignored.
+     * 
+     * @param key the key to insert
+     * @return true if the key was added
+     */
+    public boolean insert(long key) {
+        int parent = NIL;
+        int cmp = 0;
+        int current = root();
+        while (current != NIL) {
+            cmp = Long.compare(key, key(current));
+            if (cmp == 0) {
+                return false;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        int slot = attach(parent, cmp);
+        segment(slot).putLong(keyOffset(slot), key);
+        return true;
+    }
+
+    /**
+     * Searches for a key in the tree.
+     * 
+     * @param key the key to search for
+     * @return true if the key is in the tree
+     */
+    public boolean search(long key) {
+        int current = root();
+        while (current != NIL) {
+            int cmp = Long.compare(key, key(current));
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the tree contains a key.
+     * 
+     * @param key the key to check
+     * @return true if the key is in the tree
+     */
+    public boolean contains(long key) {
+        return search(key);
+    }
+
+    /**
+     * Deletes a key from the tree.
+     * 
+     * @param key the key to delete
+     * @return true if the key was removed
+     */
+    public boolean delete(long key) {
+        int parent = NIL;
+        int current = root();
+        while (current != NIL) {
+            int cmp = Long.compare(key, key(current));
+            if (cmp == 0) {
+                detach(parent, current);
+                return true;
+            }
+            parent = current;
+            current = cmp < 0 ? left(current) : right(current);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the minimum key in the tree.
+     * 
+     * @return the smallest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public long findMin() {
+        return key(minNode());
+    }
+
+    /**
+     * Finds the maximum key in the tree.
+     * 
+     * @return the largest key
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public long findMax() {
+        return key(maxNode());
+    }
+
+    /**
+     * Visits the keys in ascending order.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachInOrder(LongConsumer action) {
+        forEachNodeInOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys in pre-order (root, left, right).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPreOrder(LongConsumer action) {
+        forEachNodePreOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys in post-order (left, right, root).
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachPostOrder(LongConsumer action) {
+        forEachNodePostOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Visits the keys level by level, starting from the root.
+     * 
+     * @param action the action to run for each key
+     */
+    public void forEachLevelOrder(LongConsumer action) {
+        forEachNodeLevelOrder(slot -> action.accept(key(slot)));
+    }
+
+    /**
+     * Copies the keys into an array in ascending order.
+     * 
+     * @return the sorted keys
+     */
+    public long[] toArray() {
+        long[] values = new long[size()];
+        int[] index = {0};
+        forEachInOrder(key -> values[index[0]++] = key);
+        return values;
+    }
+}
@@ -0,0 +1,74 @@
+package escuelaing.edu.co.BST;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the binary search trees specialized for primitive keys.
+ * <p>
+ * Nodes are ids into parallel arrays of child links instead of objects, which avoids the per-entry object
+ * headers and references of {@link BinarySearchTree}. Subclasses store the keys in a primitive array indexed
+ * by node id and grow it in {@link #resizeKeys(int)}; the tree structure is shared with the off-heap trees
+ * through {@link IndexedBinarySearchTree}.
+ */
+public abstract class PrimitiveBinarySearchTree extends IndexedBinarySearchTree {
+
+    private int[] left;
+    private int[] right;
+
+    /**
+     * Creates an empty tree with room for a number of nodes before its arrays need to grow.
+     *
+     * @param initialCapacity the initial number of node slots
+     */
+    protected PrimitiveBinarySearchTree(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        left = new int[capacity];
+        right = new int[capacity];
+    }
+
+    /**
+     * Grows the key storage to a new number of node slots, keeping the stored keys.
+     *
+     * @param capacity the new number of node slots
+     */
+    protected abstract void resizeKeys(int capacity);
+
+    /**
+     * Returns the number of node slots the key storage must hold.
+     *
+     * @return the current capacity of the tree
+     */
+    protected final int capacity() {
+        return left.length;
+    }
+
+    @Override
+    protected final int left(int node) {
+        return left[node];
+    }
+
+    @Override
+    protected final int right(int node) {
+        return right[node];
+    }
+
+    @Override
+    protected final void setLeft(int node, int child) {
+        left[node] = child;
+    }
+
+    @Override
+    protected final void setRight(int node, int child) {
+        right[node] = child;
+    }
+
+    @Override
+    protected final void ensureCapacity(int nodes) {
+        if (nodes > left.length) {
+            int capacity = Math.max(nodes, left.length + (left.length >> 1) + 1);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            resizeKeys(capacity);
+        }
+    }
+}
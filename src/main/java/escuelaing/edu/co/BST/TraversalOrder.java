@@ -0,0 +1,15 @@
+package escuelaing.edu.co.BST;
+
+/**
+ * The orders in which the nodes of a tree can be visited.
+ */
+public enum TraversalOrder {
+    /** Left subtree, root, right subtree: ascending order. */
+    IN_ORDER,
+    /** Root, left subtree, right subtree. */
+    PRE_ORDER,
+    /** Left subtree, right subtree, root. */
+    POST_ORDER,
+    /** Level by level from the root (breadth-first). */
+    LEVEL_ORDER
+}
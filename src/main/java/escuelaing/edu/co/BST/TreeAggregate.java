@@ -0,0 +1,101 @@
+package escuelaing.edu.co.BST;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A monoid summarizing the values of a subtree, kept in every node of an {@link AggregateTree}.
+ * {@link #combine(Object, Object)} must be associative and {@link #identity()} must be its neutral element;
+ * it does not need to be commutative, since values are always combined in ascending order.
+ *
+ * @param <E> the type of values in the tree
+ * @param <A> the type of the aggregate
+ */
+public interface TreeAggregate<E, A> {
+
+    /**
+     * Returns the aggregate of an empty range.
+     *
+     * @return the neutral element
+     */
+    A identity();
+
+    /**
+     * Returns the aggregate of a single value.
+     *
+     * @param value the value
+     * @return the aggregate of the value
+     */
+    A of(E value);
+
+    /**
+     * Combines the aggregates of two adjacent ranges.
+     *
+     * @param left the aggregate of the smaller values
+     * @param right the aggregate of the greater values
+     * @return the aggregate of both ranges
+     */
+    A combine(A left, A right);
+
+    /**
+     * Counts the values of a range.
+     *
+     * @param <E> the type of values in the tree
+     * @return the count aggregate
+     */
+    static <E> TreeAggregate<E, Long> count() {
+        return longSum(value -> 1L);
+    }
+
+    /**
+     * Adds up a long-valued function of the values of a range, such as {@code Integer::longValue}.
+     *
+     * @param mapper the function giving the number added for each value
+     * @param <E> the type of values in the tree
+     * @return the sum aggregate
+     */
+    static <E> TreeAggregate<E, Long> longSum(ToLongFunction<? super E> mapper) {
+        return new TreeAggregate<>() {
+            @Override
+            public Long identity() {
+                return 0L;
+            }
+
+            @Override
+            public Long of(E value) {
+                return mapper.applyAsLong(value);
+            }
+
+            @Override
+            public Long combine(Long left, Long right) {
+                return left + right;
+            }
+        };
+    }
+
+    /**
+     * Adds up a double-valued function of the values of a range, such as {@code Double::doubleValue}.
+     *
+     * @param mapper the function giving the number added for each value
+     * @param <E> the type of values in the tree
+     * @return the sum aggregate
+     */
+    static <E> TreeAggregate<E, Double> doubleSum(ToDoubleFunction<? super E> mapper) {
+        return new TreeAggregate<>() {
+            @Override
+            public Double identity() {
+                return 0.0;
+            }
+
+            @Override
+            public Double of(E value) {
+                return mapper.applyAsDouble(value);
+            }
+
+            @Override
+            public Double combine(Double left, Double right) {
+                return left + right;
+            }
+        };
+    }
+}
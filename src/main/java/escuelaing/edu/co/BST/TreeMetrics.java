@@ -0,0 +1,257 @@
+package escuelaing.edu.co.BST;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in instrumentation of a {@link BinarySearchTree}, created by {@link BinarySearchTree#enableMetrics()}.
+ * It counts searches, insertions, deletions, key comparisons and rebalancing rotations, and keeps histograms
+ * of descent depths and operation latencies, next to the current height and size of the tree.
+ * Only comparisons that reach the comparator are counted; descent steps decided by cached key prefixes are not.
+ * Every counter and histogram bucket is a striped {@link LongAdder} and latencies use power-of-two buckets,
+ * so recording is cheap and safe from several threads; a tree without metrics only pays a null check
+ * per operation.
+ */
+public final class TreeMetrics implements TreeMetricsMXBean {
+
+    /**
+     * Number of depth buckets; deeper descents are counted in the last one.
+     */
+    private static final int DEPTH_BUCKETS = 64;
+
+    /**
+     * Bucket i counts latencies below 2^i nanoseconds and at least 2^(i-1).
+     */
+    private static final int LATENCY_BUCKETS = 65;
+
+    private enum Operation {
+        SEARCH, INSERT, DELETE
+    }
+
+    private final BinarySearchTree<?> tree;
+    private final LongAdder[] operations = new LongAdder[Operation.values().length];
+    private final LongAdder[][] latencies = new LongAdder[Operation.values().length][LATENCY_BUCKETS];
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+    private final LongAdder[] depths = new LongAdder[DEPTH_BUCKETS];
+    private ObjectName objectName;
+
+    TreeMetrics(BinarySearchTree<?> tree) {
+        this.tree = tree;
+        for (Operation operation : Operation.values()) {
+            operations[operation.ordinal()] = new LongAdder();
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                latencies[operation.ordinal()][i] = new LongAdder();
+            }
+        }
+        for (int i = 0; i < DEPTH_BUCKETS; i++) {
+            depths[i] = new LongAdder();
+        }
+    }
+
+    void recordSearch(int depth, int comparisons, long startNanos) {
+        record(Operation.SEARCH, depth, comparisons, startNanos);
+    }
+
+    void recordInsert(int depth, int comparisons, long startNanos) {
+        record(Operation.INSERT, depth, comparisons, startNanos);
+    }
+
+    void recordDelete(int depth, int comparisons, long startNanos) {
+        record(Operation.DELETE, depth, comparisons, startNanos);
+    }
+
+    void recordRotation() {
+        rotations.increment();
+    }
+
+    private void record(Operation operation, int depth, int comparisons, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        operations[operation.ordinal()].increment();
+        this.comparisons.add(comparisons);
+        depths[Math.min(depth, DEPTH_BUCKETS - 1)].increment();
+        latencies[operation.ordinal()][64 - Long.numberOfLeadingZeros(Math.max(nanos, 0))].increment();
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under
+     * {@code escuelaing.edu.co.BST:type=TreeMetrics,name=<name>}, replacing any name they were registered under.
+     * Registering again under the current name does nothing.
+     *
+     * @param name the name that identifies the tree
+     * @return these metrics
+     * @throws IllegalStateException if the metrics could not be registered
+     */
+    public synchronized TreeMetrics register(String name) {
+        try {
+            ObjectName registered = new ObjectName("escuelaing.edu.co.BST:type=TreeMetrics,name=" + ObjectName.quote(name));
+            if (registered.equals(objectName)) {
+                return this;
+            }
+            unregister();
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, registered);
+            objectName = registered;
+            return this;
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudieron registrar las métricas del árbol en JMX.", e);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if they were registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            // Already unregistered by someone else.
+        }
+        objectName = null;
+    }
+
+    @Override
+    public int getSize() {
+        return tree.size();
+    }
+
+    @Override
+    public int getHeight() {
+        return tree.height();
+    }
+
+    @Override
+    public long getSearches() {
+        return operations[Operation.SEARCH.ordinal()].sum();
+    }
+
+    @Override
+    public long getInsertions() {
+        return operations[Operation.INSERT.ordinal()].sum();
+    }
+
+    @Override
+    public long getDeletions() {
+        return operations[Operation.DELETE.ordinal()].sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public double getComparisonsPerOperation() {
+        long total = getSearches() + getInsertions() + getDeletions();
+        return total == 0 ? 0 : (double) getComparisons() / total;
+    }
+
+    @Override
+    public long getRotations() {
+        return rotations.sum();
+    }
+
+    @Override
+    public long[] getDepthHistogram() {
+        long[] histogram = new long[DEPTH_BUCKETS];
+        for (int i = 0; i < DEPTH_BUCKETS; i++) {
+            histogram[i] = depths[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getSearchLatencyP50() {
+        return percentile(Operation.SEARCH, 50);
+    }
+
+    @Override
+    public long getSearchLatencyP99() {
+        return percentile(Operation.SEARCH, 99);
+    }
+
+    @Override
+    public long getInsertLatencyP50() {
+        return percentile(Operation.INSERT, 50);
+    }
+
+    @Override
+    public long getInsertLatencyP99() {
+        return percentile(Operation.INSERT, 99);
+    }
+
+    @Override
+    public long getDeleteLatencyP50() {
+        return percentile(Operation.DELETE, 50);
+    }
+
+    @Override
+    public long getDeleteLatencyP99() {
+        return percentile(Operation.DELETE, 99);
+    }
+
+    /**
+     * Returns an upper bound of a latency percentile of an operation. The bound is the end of the
+     * power-of-two bucket holding the percentile, so it is at most twice the exact latency.
+     *
+     * @param operation "search", "insert" or "delete"
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, or 0 if the operation was never recorded
+     * @throws IllegalArgumentException if the operation or the percentile is not valid
+     */
+    @Override
+    public long latencyPercentile(String operation, double percentile) {
+        Operation parsed;
+        try {
+            parsed = Operation.valueOf(operation.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Operación desconocida: " + operation + ".");
+        }
+        return percentile(parsed, percentile);
+    }
+
+    private long percentile(Operation operation, double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100.");
+        }
+        LongAdder[] buckets = latencies[operation.ordinal()];
+        long[] counts = new long[LATENCY_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            operations[operation.ordinal()].reset();
+            for (LongAdder bucket : latencies[operation.ordinal()]) {
+                bucket.reset();
+            }
+        }
+        comparisons.reset();
+        rotations.reset();
+        for (LongAdder bucket : depths) {
+            bucket.reset();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package escuelaing.edu.co.BST;
+
+/**
+ * Management interface of {@link TreeMetrics}, exposed through JMX once the metrics are
+ * {@linkplain TreeMetrics#register(String) registered}. Latencies are reported in nanoseconds.
+ */
+public interface TreeMetricsMXBean {
+
+    int getSize();
+
+    int getHeight();
+
+    long getSearches();
+
+    long getInsertions();
+
+    long getDeletions();
+
+    long getComparisons();
+
+    double getComparisonsPerOperation();
+
+    long getRotations();
+
+    /**
+     * Returns how many descents ended at each depth; the last bucket also counts deeper descents.
+     *
+     * @return the number of descents per depth
+     */
+    long[] getDepthHistogram();
+
+    long getSearchLatencyP50();
+
+    long getSearchLatencyP99();
+
+    long getInsertLatencyP50();
+
+    long getInsertLatencyP99();
+
+    long getDeleteLatencyP50();
+
+    long getDeleteLatencyP99();
+
+    /**
+     * Returns an upper bound of a latency percentile of an operation.
+     *
+     * @param operation "search", "insert" or "delete"
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, or 0 if the operation was never recorded
+     */
+    long latencyPercentile(String operation, double percentile);
+
+    /**
+     * Clears every counter and histogram.
+     */
+    void reset();
+}
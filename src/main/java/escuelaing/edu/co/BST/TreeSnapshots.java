@@ -0,0 +1,243 @@
+package escuelaing.edu.co.BST;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Saves binary search trees to a compact binary file and loads them back in linear time.
+ * <p>
+ * A file starts with a header (magic number, format version, layout, codec name and element count)
+ * followed by the keys, each one preceded by its length when the codec is not fixed-width.
+ * Keys are stored either in ascending order, which loads into a minimum-height tree, or in pre-order,
+ * which loads into exactly the saved shape. Files are read through a memory mapping that is moved
+ * along the file in windows, so snapshots larger than 2 GB are read without any stream overhead.
+ */
+public final class TreeSnapshots {
+
+    /**
+     * How the keys of a tree are laid out in a snapshot file.
+     */
+    public enum Layout {
+        /** Keys in ascending order; loading builds a minimum-height tree. */
+        SORTED,
+        /** Keys in pre-order; loading rebuilds exactly the saved shape. */
+        PRE_ORDER
+    }
+
+    private static final int MAGIC = 0x42535431;
+    private static final byte VERSION = 1;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Largest part of a file mapped at once.
+     */
+    static final long MAPPING_WINDOW = 1L << 30;
+
+    private TreeSnapshots() {
+    }
+
+    /**
+     * Writes the keys of a tree to a file, replacing any existing content.
+     *
+     * @param <E> the type of the keys
+     * @param tree the tree to save
+     * @param file the destination file
+     * @param codec the codec used to encode the keys
+     * @param layout the order in which the keys are written
+     * @throws IOException if the file cannot be written
+     */
+    public static <E> void save(BinarySearchTree<E> tree, Path file, KeyCodec<E> codec, Layout layout) throws IOException {
+        BinarySearchTree<E> source = tree.snapshot();
+        Iterator<E> keys = layout == Layout.SORTED ? source.iterator() : source.traversalIterator(TraversalOrder.PRE_ORDER);
+        byte[] codecName = codec.name().getBytes(StandardCharsets.UTF_8);
+        int fixedWidth = codec.fixedWidth();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            buffer.put((byte) layout.ordinal());
+            buffer.putShort((short) codecName.length);
+            buffer.put(codecName);
+            buffer.putInt(source.size());
+            while (keys.hasNext()) {
+                E key = keys.next();
+                byte[] encoded = fixedWidth >= 0 ? null : codec.encode(key);
+                int needed = fixedWidth >= 0 ? fixedWidth : Integer.BYTES + encoded.length;
+                if (buffer.remaining() < needed) {
+                    drain(channel, buffer);
+                    if (buffer.capacity() < needed) {
+                        buffer = ByteBuffer.allocate(needed);
+                    }
+                }
+                if (encoded == null) {
+                    codec.write(key, buffer);
+                } else {
+                    buffer.putInt(encoded.length);
+                    buffer.put(encoded);
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Loads a snapshot file into a new tree.
+     *
+     * @param <E> the type of the keys
+     * @param file the snapshot file
+     * @param codec the codec the file was written with
+     * @return a tree holding the saved keys
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static <E extends Comparable<E>> BinarySearchTree<E> load(Path file, KeyCodec<E> codec) throws IOException {
+        return load(file, codec, new BinarySearchTree<>());
+    }
+
+    /**
+     * Loads a snapshot file into the given tree, replacing its contents.
+     * A tree saved in pre-order keeps its exact shape, so a saved {@link AVLTree} loads balanced.
+     *
+     * @param <E> the type of the keys
+     * @param <T> the type of the tree
+     * @param file the snapshot file
+     * @param codec the codec the file was written with
+     * @param target the tree to fill
+     * @return the target tree
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static <E, T extends BinarySearchTree<E>> T load(Path file, KeyCodec<E> codec, T target) throws IOException {
+        Layout layout;
+        Object[] keys;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            try (MappedReader reader = new MappedReader(channel)) {
+                if (reader.require(Integer.BYTES).getInt() != MAGIC) {
+                    throw new IOException("El archivo no es una instantánea de árbol: " + file);
+                }
+                ByteBuffer header = reader.require(4);
+                byte version = header.get();
+                if (version != VERSION) {
+                    throw new IOException("Versión de instantánea no soportada: " + version);
+                }
+                byte layoutId = header.get();
+                if (layoutId < 0 || layoutId >= Layout.values().length) {
+                    throw new IOException("Disposición de instantánea desconocida: " + layoutId);
+                }
+                layout = Layout.values()[layoutId];
+                int nameLength = header.getShort() & 0xFFFF;
+                byte[] name = new byte[nameLength];
+                reader.require(nameLength).get(name);
+                String codecName = new String(name, StandardCharsets.UTF_8);
+                if (!codecName.equals(codec.name())) {
+                    throw new IOException("La instantánea fue escrita con el códec " + codecName + ", no con " + codec.name());
+                }
+                int count = reader.require(Integer.BYTES).getInt();
+                if (count < 0) {
+                    throw new IOException("Número de elementos inválido: " + count);
+                }
+                keys = new Object[count];
+                int fixedWidth = codec.fixedWidth();
+                for (int i = 0; i < count; i++) {
+                    int length = fixedWidth >= 0 ? fixedWidth : reader.require(Integer.BYTES).getInt();
+                    if (length < 0) {
+                        throw new IOException("Longitud de clave inválida: " + length);
+                    }
+                    keys[i] = codec.read(reader.require(length), length);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Instantánea truncada: " + file, e);
+            }
+        }
+        try {
+            if (layout == Layout.SORTED) {
+                target.load(keys);
+            } else {
+                target.loadPreOrder(keys);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Instantánea corrupta: " + file, e);
+        }
+        return target;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Reads a file through a read-only mapping of at most {@link #MAPPING_WINDOW} bytes,
+     * remapping at the current position whenever a read would cross the end of the window.
+     * Each window is unmapped as soon as it is replaced, and the last one on {@link #close()}, so the
+     * file can be truncated or replaced right after reading it on every platform.
+     */
+    static final class MappedReader implements Closeable {
+        private final FileChannel channel;
+        private final long fileSize;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.fileSize = channel.size();
+            map(0);
+        }
+
+        /**
+         * Makes sure the next {@code length} bytes are mapped and returns the buffer positioned at them.
+         *
+         * @param length the number of bytes about to be read
+         * @return the mapped buffer
+         * @throws IOException if the file ends before that many bytes
+         */
+        ByteBuffer require(int length) throws IOException {
+            if (window.remaining() < length) {
+                long position = position();
+                if (fileSize - position < length) {
+                    throw new IOException("Instantánea truncada en la posición " + position);
+                }
+                if (length > MAPPING_WINDOW) {
+                    throw new IOException("Clave demasiado grande: " + length + " bytes");
+                }
+                map(position);
+            }
+            return window;
+        }
+
+        /**
+         * Returns the offset in the file of the next byte to read.
+         *
+         * @return the current file position
+         */
+        long position() {
+            return windowStart + window.position();
+        }
+
+        private void map(long position) throws IOException {
+            DirectBuffers.release(window);
+            window = null;
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPING_WINDOW, fileSize - position));
+        }
+
+        /**
+         * Unmaps the current window. Buffers returned by {@link #require(int)} must not be used afterwards.
+         */
+        @Override
+        public void close() {
+            DirectBuffers.release(window);
+            window = null;
+        }
+    }
+}
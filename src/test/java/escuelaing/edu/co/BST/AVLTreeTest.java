@@ -0,0 +1,131 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AVLTreeTest {
+
+    private AVLTree<Integer> avlInt;
+
+    @BeforeEach
+    public void setUp() {
+        avlInt = new AVLTree<>();
+    }
+
+    @Test
+    public void testSortedInsertStaysBalanced() {
+        for (int i = 1; i <= 1023; i++) {
+            avlInt.add(i);
+        }
+
+        assertEquals(9, avlInt.height());
+        assertTrue(avlInt.isBalanced());
+        assertEquals(1, avlInt.findMin().value);
+        assertEquals(1023, avlInt.findMax().value);
+    }
+
+    @Test
+    public void testReverseInsertStaysBalanced() {
+        for (int i = 1000; i > 0; i--) {
+            avlInt.add(i);
+        }
+
+        assertTrue(avlInt.isBalanced());
+        assertTrue(avlInt.height() <= 14);
+    }
+
+    @Test
+    public void testDeleteKeepsBalanceAndOrder() {
+        for (int i = 1; i <= 10; i++) {
+            avlInt.add(i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            avlInt.remove((Integer) i);
+            assertTrue(avlInt.isBalanced());
+        }
+
+        assertEquals(5, avlInt.size());
+        assertEquals("6 7 8 9 10", avlInt.inOrderTraversal());
+        assertNull(avlInt.search(3));
+        assertNotNull(avlInt.search(8));
+    }
+
+    @Test
+    public void testRandomOperationsStayBalanced() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextBoolean()) {
+                avlInt.add(value);
+            } else {
+                avlInt.remove((Integer) value);
+            }
+        }
+
+        assertTrue(avlInt.isBalanced());
+        assertEquals(avlInt.toArray().length, avlInt.size());
+    }
+
+    @Test
+    public void testIteratorRemoveAcrossRotations() {
+        for (int i = 1; i <= 100; i++) {
+            avlInt.add(i);
+        }
+
+        Iterator<Integer> iterator = avlInt.iterator();
+        int expected = 1;
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            assertEquals(expected++, value);
+            if (value % 3 != 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(33, avlInt.size());
+        assertTrue(avlInt.isBalanced());
+        assertEquals(3, avlInt.get(0));
+    }
+
+    @Test
+    public void testSnapshotsSurviveRotations() {
+        Random random = new Random(3);
+        List<BinarySearchTree<Integer>> snapshots = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 40; i++) {
+                int value = random.nextInt(300);
+                if (random.nextBoolean()) {
+                    avlInt.add(value);
+                } else {
+                    avlInt.remove((Integer) value);
+                }
+            }
+            snapshots.add(avlInt.snapshot());
+            expected.add(avlInt.inOrderTraversal());
+        }
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expected.get(i), snapshots.get(i).inOrderTraversal());
+            assertTrue(snapshots.get(i).isBalanced());
+        }
+        assertTrue(avlInt.isBalanced());
+    }
+
+    @Test
+    public void testDuplicatesAreIgnored() {
+        avlInt.add(5);
+        avlInt.add(5);
+        avlInt.add(3);
+
+        assertEquals(2, avlInt.size());
+        assertEquals("3 5", avlInt.inOrderTraversal());
+    }
+}
@@ -0,0 +1,104 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateTreeTest {
+
+    /**
+     * Non-commutative aggregate that concatenates the values, to check that ranges are combined in order.
+     */
+    private static final TreeAggregate<Integer, String> CONCAT = new TreeAggregate<>() {
+        @Override
+        public String identity() {
+            return "";
+        }
+
+        @Override
+        public String of(Integer value) {
+            return value + ",";
+        }
+
+        @Override
+        public String combine(String left, String right) {
+            return left + right;
+        }
+    };
+
+    @Test
+    public void testCountAndSumInRange() {
+        AggregateTree<Integer, Long> sums = new AggregateTree<>(TreeAggregate.longSum(Integer::longValue));
+        AggregateTree<Integer, Long> counts = new AggregateTree<>(TreeAggregate.count());
+        for (int value = 10; value <= 100; value += 10) {
+            sums.add(value);
+            counts.add(value);
+        }
+
+        assertEquals(550L, sums.aggregate());
+        assertEquals(30L + 40 + 50 + 60, sums.aggregate(25, 60));
+        assertEquals(40L + 50, sums.aggregate(30, false, 60, false));
+        assertEquals(0L, sums.aggregate(101, 200));
+        assertEquals(4L, counts.aggregate(25, 60));
+        assertEquals(10L, counts.aggregate(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> sums.aggregate(60, 25));
+
+        sums.remove(Integer.valueOf(50));
+        assertEquals(30L + 40 + 60, sums.aggregate(25, 60));
+    }
+
+    @Test
+    public void testAggregatesMatchBruteForce() {
+        Random random = new Random(23);
+        AggregateTree<Integer, Long> counts = new AggregateTree<>(TreeAggregate.count());
+        AggregateTree<Integer, Double> sums = new AggregateTree<>(TreeAggregate.doubleSum(value -> value / 2.0));
+        AggregateTree<Integer, String> concat = new AggregateTree<>(CONCAT);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                counts.remove(Integer.valueOf(value));
+                sums.remove(Integer.valueOf(value));
+                concat.remove(Integer.valueOf(value));
+            } else {
+                expected.add(value);
+                counts.add(value);
+                sums.add(value);
+                concat.add(value);
+            }
+            if (i % 50 == 0) {
+                int from = random.nextInt(5000);
+                int to = from + random.nextInt(5000 - from);
+                boolean fromInclusive = random.nextBoolean();
+                boolean toInclusive = random.nextBoolean();
+                List<Integer> range = List.copyOf(expected.subSet(from, fromInclusive, to, toInclusive));
+                assertEquals(range.size(), counts.aggregate(from, fromInclusive, to, toInclusive));
+                assertEquals(range.stream().mapToDouble(v -> v / 2.0).sum(), sums.aggregate(from, fromInclusive, to, toInclusive), 1e-6);
+                StringBuilder joined = new StringBuilder();
+                range.forEach(v -> joined.append(v).append(','));
+                assertEquals(joined.toString(), concat.aggregate(from, fromInclusive, to, toInclusive));
+            }
+        }
+        assertTrue(counts.isBalanced());
+        assertEquals(expected.size(), counts.aggregate());
+    }
+
+    @Test
+    public void testBulkLoadsAndSnapshotsKeepAggregates() {
+        AggregateTree<Integer, Long> tree = new AggregateTree<>(TreeAggregate.longSum(Integer::longValue));
+        tree.addAll(List.of(5, 1, 4, 2, 3, 9, 8, 7, 6, 10));
+        assertEquals(55L, tree.aggregate());
+        assertEquals(2L + 3 + 4, tree.aggregate(2, 4));
+
+        tree.snapshot();
+        tree.add(11);
+        tree.retainAll(List.of(1, 2, 3, 11));
+        assertEquals(17L, tree.aggregate());
+        assertEquals(5L, tree.aggregate(2, 3));
+    }
+}
@@ -0,0 +1,142 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BPlusTreeTest {
+
+    @Test
+    public void testInsertSearchAndDelete() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        for (int i = 1; i <= 20; i++) {
+            assertTrue(tree.insert(i));
+        }
+        assertFalse(tree.insert(7));
+
+        assertEquals(20, tree.size());
+        assertEquals(7, tree.search(7));
+        assertNull(tree.search(21));
+        assertEquals(1, tree.findMin());
+        assertEquals(20, tree.findMax());
+        assertTrue(tree.height() >= 2);
+
+        for (int i = 1; i <= 20; i += 2) {
+            assertTrue(tree.delete(i));
+        }
+        assertFalse(tree.delete(1));
+        assertEquals("2 4 6 8 10 12 14 16 18 20", tree.inOrderTraversal());
+    }
+
+    @Test
+    public void testRandomOperationsMatchTreeSet() {
+        for (int nodeSize : new int[]{3, 4, 5, 16, 64}) {
+            Random random = new Random(nodeSize);
+            BPlusTree<Integer> tree = new BPlusTree<>(nodeSize);
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(3000);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(value), tree.delete(value));
+                } else {
+                    assertEquals(expected.add(value), tree.insert(value));
+                }
+            }
+
+            assertEquals(expected.size(), tree.size());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(tree));
+            for (int value = 0; value < 3000; value++) {
+                assertEquals(expected.contains(value), tree.contains(value));
+            }
+            assertEquals(expected.first(), tree.findMin());
+            assertEquals(expected.last(), tree.findMax());
+        }
+    }
+
+    @Test
+    public void testDeletingEverythingShrinksTheTree() {
+        BPlusTree<Integer> tree = new BPlusTree<>(3);
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i);
+        }
+        int fullHeight = tree.height();
+        for (int i = 999; i >= 0; i--) {
+            tree.delete(i);
+        }
+
+        assertTrue(fullHeight >= 6);
+        assertTrue(tree.isEmpty());
+        assertEquals(-1, tree.height());
+        assertNull(tree.findMin());
+        tree.insert(5);
+        assertEquals("5", tree.inOrderTraversal());
+    }
+
+    @Test
+    public void testRangeScan() {
+        BPlusTree<Integer> tree = new BPlusTree<>(8);
+        for (int i = 0; i < 500; i += 5) {
+            tree.insert(i);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        tree.range(100, false, 150, true).forEachRemaining(values::add);
+        assertEquals(List.of(105, 110, 115, 120, 125, 130, 135, 140, 145, 150), values);
+
+        values.clear();
+        tree.range(482, true, null, false).forEachRemaining(values::add);
+        assertEquals(List.of(485, 490, 495), values);
+
+        assertFalse(tree.range(1000, true, null, false).hasNext());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        for (int i = 1; i <= 200; i++) {
+            tree.add(i);
+        }
+
+        Iterator<Integer> iterator = tree.iterator();
+        int expected = 1;
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            assertEquals(expected++, value);
+            if (value % 4 != 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(50, tree.size());
+        assertEquals(4, tree.findMin());
+        assertTrue(tree.removeIf(value -> value > 100));
+        assertEquals(200 / 4 / 2, tree.size());
+    }
+
+    @Test
+    public void testNullIsRejected() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        assertThrows(NullPointerException.class, () -> tree.insert(null));
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void testStringKeys() {
+        BPlusTree<String> tree = new BPlusTree<>();
+        tree.insert("banana");
+        tree.insert("apple");
+        tree.insert("cherry");
+
+        assertEquals("apple banana cherry", tree.inOrderTraversal());
+        assertTrue(tree.contains("cherry"));
+        assertEquals(0, tree.height());
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree<String>(2));
+    }
+}
@@ -0,0 +1,105 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinarySearchTreeMapTest {
+
+    @Test
+    public void testPutGetAndRemove() {
+        BinarySearchTreeMap<String, Integer> map = new BinarySearchTreeMap<>();
+        assertNull(map.put("banana", 2));
+        assertNull(map.put("apple", 1));
+        assertEquals(2, map.put("banana", 3));
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("apple"));
+        assertEquals(3, map.get("banana"));
+        assertNull(map.get("cherry"));
+        assertTrue(map.containsKey("apple"));
+        assertEquals("apple", map.firstKey());
+        assertEquals("banana", map.lastKey());
+
+        assertEquals(1, map.remove("apple"));
+        assertNull(map.remove("apple"));
+        assertEquals("{banana=3}", map.toString());
+    }
+
+    @Test
+    public void testComputeIfAbsentAndMerge() {
+        BinarySearchTreeMap<String, Integer> counts = new BinarySearchTreeMap<>();
+        for (String word : "the cat and the dog and the bird".split(" ")) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        assertEquals(Map.of("the", 3, "and", 2, "cat", 1, "dog", 1, "bird", 1), counts);
+
+        assertNull(counts.merge("cat", 1, (a, b) -> null));
+        assertFalse(counts.containsKey("cat"));
+
+        BinarySearchTreeMap<Integer, List<String>> groups = new BinarySearchTreeMap<>();
+        for (String word : List.of("a", "bb", "cc", "d", "eee")) {
+            groups.computeIfAbsent(word.length(), length -> new ArrayList<>()).add(word);
+        }
+        assertEquals("{1=[a, d], 2=[bb, cc], 3=[eee]}", groups.toString());
+        assertNull(groups.computeIfAbsent(4, length -> null));
+        assertFalse(groups.containsKey(4));
+    }
+
+    @Test
+    public void testEntryIteration() {
+        BinarySearchTreeMap<Integer, String> map = new BinarySearchTreeMap<>(Comparator.reverseOrder());
+        for (int i = 1; i <= 10; i++) {
+            map.put(i, "v" + i);
+        }
+
+        List<Integer> keys = new ArrayList<>();
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, String> entry = iterator.next();
+            keys.add(entry.getKey());
+            if (entry.getKey() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue("odd" + entry.getKey());
+            }
+        }
+
+        assertEquals(List.of(10, 9, 8, 7, 6, 5, 4, 3, 2, 1), keys);
+        assertEquals("{9=odd9, 7=odd7, 5=odd5, 3=odd3, 1=odd1}", map.toString());
+        assertTrue(map.entrySet().contains(Map.entry(5, "odd5")));
+        assertTrue(map.entrySet().remove(Map.entry(5, "odd5")));
+        assertFalse(map.entrySet().remove(Map.entry(7, "v7")));
+        assertEquals(new TreeMap<>(Map.of(1, "odd1", 3, "odd3", 7, "odd7", 9, "odd9")).hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testRandomOperationsMatchTreeMap() {
+        Random random = new Random(21);
+        BinarySearchTreeMap<Integer, Integer> map = new BinarySearchTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2000);
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.remove(key), map.remove(key));
+                case 1 -> assertEquals(expected.merge(key, value, Integer::sum), map.merge(key, value, Integer::sum));
+                case 2 -> assertEquals(expected.get(key), map.get(key));
+                default -> assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
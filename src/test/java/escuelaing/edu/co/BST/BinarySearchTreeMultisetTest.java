@@ -0,0 +1,142 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinarySearchTreeMultisetTest {
+
+    @Test
+    public void testCountsAndSize() {
+        BinarySearchTreeMultiset<String> events = new BinarySearchTreeMultiset<>();
+        assertTrue(events.add("click"));
+        assertTrue(events.add("click"));
+        assertEquals(0, events.add("view", 5));
+        assertEquals(5, events.add("view", 2));
+        events.add("buy");
+
+        assertEquals(2, events.count("click"));
+        assertEquals(7, events.count("view"));
+        assertEquals(0, events.count("scroll"));
+        assertEquals(10, events.size());
+        assertEquals(3, events.distinctCount());
+        assertEquals(List.of("buy", "click", "view"), new ArrayList<>(events.elementSet()));
+
+        assertEquals(7, events.remove("view", 3));
+        assertTrue(events.remove("click"));
+        assertEquals(1, events.remove("buy", 10));
+        assertFalse(events.contains("buy"));
+        assertEquals(5, events.size());
+        assertEquals("[click, view, view, view, view]", events.toString());
+        assertThrows(IllegalArgumentException.class, () -> events.add("view", -1));
+        assertThrows(UnsupportedOperationException.class, () -> events.elementSet().add("scroll"));
+    }
+
+    @Test
+    public void testRankAndGetCountDuplicates() {
+        BinarySearchTreeMultiset<Integer> multiset = new BinarySearchTreeMultiset<>(Comparator.reverseOrder());
+        multiset.add(10, 3);
+        multiset.add(20, 2);
+        multiset.add(5, 4);
+
+        assertEquals(0, multiset.rank(20));
+        assertEquals(2, multiset.rank(10));
+        assertEquals(5, multiset.rank(7));
+        assertEquals(9, multiset.rank(1));
+        assertEquals(20, multiset.get(1));
+        assertEquals(10, multiset.get(4));
+        assertEquals(5, multiset.get(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> multiset.get(9));
+    }
+
+    @Test
+    public void testIteratorRemovesOneOccurrence() {
+        BinarySearchTreeMultiset<Integer> multiset = new BinarySearchTreeMultiset<>();
+        for (int i = 1; i <= 5; i++) {
+            multiset.add(i, i);
+        }
+
+        Iterator<Integer> iterator = multiset.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertFalse(multiset.isEmpty());
+        assertEquals(List.of(2, 2, 4, 4, 4, 4), new ArrayList<>(multiset));
+        assertEquals(2, multiset.distinctCount());
+    }
+
+    @Test
+    public void testCountChangesAreModifications() {
+        BinarySearchTreeMultiset<Integer> multiset = new BinarySearchTreeMultiset<>();
+        multiset.add(1);
+        multiset.add(2, Integer.MAX_VALUE);
+
+        Iterator<Integer> iterator = multiset.iterator();
+        iterator.next();
+        multiset.add(1);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        multiset.remove(1);
+        iterator = multiset.iterator();
+        iterator.next();
+        multiset.remove(2, 1);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        multiset.add(2);
+
+        assertThrows(ArithmeticException.class, () -> multiset.add(2, 1));
+        assertEquals(Integer.MAX_VALUE, multiset.count(2));
+        assertEquals(1L + Integer.MAX_VALUE, multiset.totalCount());
+    }
+
+    @Test
+    public void testRandomOperationsMatchCountingMap() {
+        Random random = new Random(22);
+        BinarySearchTreeMultiset<Integer> multiset = new BinarySearchTreeMultiset<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            int value = random.nextInt(300);
+            int occurrences = random.nextInt(4);
+            int before = expected.getOrDefault(value, 0);
+            if (random.nextBoolean()) {
+                assertEquals(before, multiset.add(value, occurrences));
+                if (before + occurrences > 0) {
+                    expected.put(value, before + occurrences);
+                }
+            } else {
+                assertEquals(before, multiset.remove(value, occurrences));
+                if (before > occurrences) {
+                    expected.put(value, before - occurrences);
+                } else if (occurrences > 0) {
+                    expected.remove(value);
+                }
+            }
+        }
+
+        List<Integer> flattened = new ArrayList<>();
+        expected.forEach((value, count) -> flattened.addAll(Collections.nCopies(count, value)));
+        assertEquals(flattened, new ArrayList<>(multiset));
+        assertEquals(flattened.size(), multiset.totalCount());
+        assertEquals(expected.size(), multiset.distinctCount());
+        for (int value = 0; value < 300; value += 7) {
+            assertEquals(expected.getOrDefault(value, 0), multiset.count(value));
+            int firstIndex = flattened.indexOf(value);
+            long rank = firstIndex >= 0 ? firstIndex : expected.headMap(value).values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(rank, multiset.rank(value));
+        }
+        for (int index = 0; index < flattened.size(); index += 13) {
+            assertEquals(flattened.get(index), multiset.get(index));
+        }
+    }
+}
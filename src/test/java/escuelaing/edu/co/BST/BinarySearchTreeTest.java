@@ -3,6 +3,21 @@ package escuelaing.edu.co.BST;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class BinarySearchTreeTest {
@@ -93,6 +108,408 @@ public class BinarySearchTreeTest {
     }
 
 
+    @Test
+    public void testDeepSkewedTreeIsStackSafe() {
+        int n = 1_000_000;
+        // Ascending values are the pre-order of a chain of right children, built in linear time.
+        Object[] chain = new Object[n];
+        for (int i = 0; i < n; i++) {
+            chain[i] = i;
+        }
+        bstInt.loadPreOrder(chain);
+
+        assertEquals(n - 1, bstInt.height());
+        assertEquals(n, bstInt.size());
+        assertFalse(bstInt.isBalanced());
+        assertNotNull(bstInt.search(n - 1));
+        assertEquals(0, bstInt.findMin().value);
+        assertEquals(n - 1, bstInt.findMax().value);
+        assertFalse(bstInt.inOrderTraversal().isEmpty());
+        assertFalse(bstInt.preOrderTraversal().isEmpty());
+        assertFalse(bstInt.postOrderTraversal().isEmpty());
+        assertFalse(bstInt.levelOrderTraversal().isEmpty());
+        assertEquals(n, bstInt.toArray().length);
+        assertEquals(n / 2, bstInt.get(n / 2));
+
+        assertTrue(bstInt.add(n));
+        assertEquals(n, bstInt.height());
+        assertTrue(bstInt.remove((Integer) (n - 1)));
+        assertTrue(bstInt.remove((Integer) (n / 2)));
+        assertTrue(bstInt.remove((Integer) 0));
+        assertEquals(n - 2, bstInt.size());
+        assertNull(bstInt.search(n - 1));
+        assertEquals(n, bstInt.findMax().value);
+    }
+
+    @Test
+    public void testDeleteNodeWithTwoChildren() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(70);
+        bstInt.add(60);
+        bstInt.add(80);
+        bstInt.add(65);
+
+        bstInt.remove((Integer) 50);
+        assertEquals("30 60 65 70 80", bstInt.inOrderTraversal());
+        assertEquals("60 30 70 65 80", bstInt.preOrderTraversal());
+        assertEquals("30 65 80 70 60", bstInt.postOrderTraversal());
+        assertEquals(2, bstInt.height());
+    }
+
+    @Test
+    public void testSizeIgnoresDuplicatesAndMissingValues() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(30);
+        bstInt.add(70);
+
+        assertEquals(3, bstInt.size());
+
+        bstInt.remove((Integer) 99);
+        assertEquals(3, bstInt.size());
+
+        bstInt.remove((Integer) 50);
+        bstInt.remove((Integer) 50);
+        assertEquals(2, bstInt.size());
+
+        bstInt.clear();
+        assertEquals(0, bstInt.size());
+        assertTrue(bstInt.isEmpty());
+    }
+
+    @Test
+    public void testPositionalAccessIntegers() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(70);
+        bstInt.add(20);
+        bstInt.add(40);
+        bstInt.add(60);
+        bstInt.add(80);
+
+        assertEquals(20, bstInt.get(0));
+        assertEquals(50, bstInt.get(3));
+        assertEquals(80, bstInt.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> bstInt.get(7));
+
+        assertEquals(3, bstInt.indexOf(50));
+        assertEquals(6, bstInt.lastIndexOf(80));
+        assertEquals(-1, bstInt.indexOf(55));
+
+        assertEquals(30, bstInt.remove(1));
+        assertEquals("20 40 50 60 70 80", bstInt.inOrderTraversal());
+        assertEquals(5, bstInt.indexOf(80));
+    }
+
+    @Test
+    public void testSubListIsALiveView() {
+        for (int i = 1; i <= 10; i++) {
+            bstInt.add(i * 10);
+        }
+
+        List<Integer> view = bstInt.subList(2, 6);
+        assertEquals(Arrays.asList(30, 40, 50, 60), view);
+
+        view.remove(0);
+        assertEquals(Arrays.asList(40, 50, 60), view);
+        assertEquals(9, bstInt.size());
+        assertFalse(bstInt.contains(30));
+
+        bstInt.add(35);
+        assertThrows(ConcurrentModificationException.class, view::size);
+    }
+
+    @Test
+    public void testIteratorRemoveAndFailFast() {
+        for (int i = 1; i <= 10; i++) {
+            bstInt.add(i);
+        }
+
+        Iterator<Integer> iterator = bstInt.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals("1 3 5 7 9", bstInt.inOrderTraversal());
+        assertEquals(5, bstInt.size());
+
+        Iterator<Integer> stale = bstInt.iterator();
+        stale.next();
+        bstInt.add(4);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+        assertThrows(IllegalStateException.class, () -> bstInt.iterator().remove());
+    }
+
+    @Test
+    public void testListIteratorMovesBothWays() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(70);
+        bstInt.add(20);
+        bstInt.add(40);
+        bstInt.add(60);
+        bstInt.add(80);
+
+        ListIterator<Integer> iterator = bstInt.listIterator(3);
+        assertEquals(3, iterator.nextIndex());
+        assertEquals(50, iterator.next());
+        assertEquals(60, iterator.next());
+        assertEquals(60, iterator.previous());
+        assertEquals(50, iterator.previous());
+        assertEquals(40, iterator.previous());
+        assertEquals(30, iterator.previous());
+        assertEquals(20, iterator.previous());
+        assertFalse(iterator.hasPrevious());
+
+        iterator = bstInt.listIterator(bstInt.size());
+        assertFalse(iterator.hasNext());
+        assertEquals(80, iterator.previous());
+        assertEquals(70, iterator.previous());
+        iterator.remove();
+        assertEquals(60, iterator.previous());
+        assertEquals(60, iterator.next());
+        assertEquals(80, iterator.next());
+        assertEquals("20 30 40 50 60 80", bstInt.inOrderTraversal());
+    }
+
+    @Test
+    public void testDescendingIterator() {
+        for (int i = 1; i <= 20; i++) {
+            bstInt.add(i);
+        }
+
+        Iterator<Integer> iterator = bstInt.descendingIterator();
+        for (int i = 20; i >= 1; i--) {
+            assertEquals(i, iterator.next());
+            if (i % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertFalse(iterator.hasNext());
+        assertEquals("1 3 5 7 9 11 13 15 17 19", bstInt.inOrderTraversal());
+    }
+
+    @Test
+    public void testNavigationIntegers() {
+        for (int i = 10; i <= 100; i += 10) {
+            bstInt.add(i);
+        }
+
+        assertEquals(40, bstInt.floor(45));
+        assertEquals(40, bstInt.floor(40));
+        assertEquals(50, bstInt.ceiling(45));
+        assertEquals(30, bstInt.lower(40));
+        assertEquals(50, bstInt.higher(40));
+        assertNull(bstInt.lower(10));
+        assertNull(bstInt.higher(100));
+        assertEquals(10, bstInt.first());
+        assertEquals(100, bstInt.last());
+
+        assertEquals(10, bstInt.pollFirst());
+        assertEquals(100, bstInt.pollLast());
+        assertEquals(8, bstInt.size());
+    }
+
+    @Test
+    public void testRangeViews() {
+        for (int i = 10; i <= 100; i += 10) {
+            bstInt.add(i);
+        }
+
+        NavigableSet<Integer> range = bstInt.subSet(25, true, 70, true);
+        assertEquals(5, range.size());
+        assertEquals(Arrays.asList(30, 40, 50, 60, 70), new ArrayList<>(range));
+        assertEquals(30, range.first());
+        assertEquals(70, range.last());
+        assertEquals(30, range.ceiling(0));
+        assertNull(range.higher(70));
+        assertFalse(range.contains(80));
+
+        bstInt.add(55);
+        assertEquals(6, range.size());
+        assertThrows(IllegalArgumentException.class, () -> range.add(90));
+
+        assertEquals(Arrays.asList(10, 20, 30), new ArrayList<>(bstInt.headSet(40)));
+        assertEquals(Arrays.asList(90, 100), new ArrayList<>(bstInt.tailSet(80, false)));
+        assertEquals(Arrays.asList(70, 60, 55, 50, 40, 30), new ArrayList<>(range.descendingSet()));
+        assertEquals(60, range.descendingSet().higher(70 - 5));
+
+        range.pollFirst();
+        assertFalse(bstInt.contains(30));
+        assertEquals(Arrays.asList(100, 90, 80), new ArrayList<>(bstInt.descendingSet().headSet(70)));
+    }
+
+    @Test
+    public void testFromSortedBuildsMinimumHeightTree() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            values.add(i);
+        }
+
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(values);
+        assertEquals(1000, tree.size());
+        assertEquals(9, tree.height());
+        assertTrue(tree.isBalanced());
+        assertEquals(500, tree.get(499));
+
+        BinarySearchTree<Integer> unsorted = BinarySearchTree.fromSorted(5, 3, 9, 3, 1);
+        assertEquals("1 3 5 9", unsorted.inOrderTraversal());
+        assertEquals(4, unsorted.size());
+    }
+
+    @Test
+    public void testAddAllMergesSortedBatch() {
+        bstInt.add(50);
+        bstInt.add(10);
+        bstInt.add(30);
+
+        assertTrue(bstInt.addAll(Arrays.asList(20, 40, 60, 30, 70, 80)));
+        assertEquals("10 20 30 40 50 60 70 80", bstInt.inOrderTraversal());
+        assertEquals(8, bstInt.size());
+        assertTrue(bstInt.isBalanced());
+        assertFalse(bstInt.addAll(Arrays.asList(10, 80)));
+    }
+
+    @Test
+    public void testBatchOperationsReportChanges() {
+        for (int i = 10; i <= 100; i += 10) {
+            bstInt.add(i);
+        }
+
+        assertFalse(bstInt.add(50));
+        assertFalse(bstInt.remove((Integer) 55));
+        assertTrue(bstInt.remove((Integer) 50));
+        assertTrue(bstInt.containsAll(Arrays.asList(90, 10, 40, 10)));
+        assertFalse(bstInt.containsAll(Arrays.asList(90, 10, 50)));
+        assertFalse(bstInt.removeAll(Arrays.asList(5, 15, 50)));
+        assertTrue(bstInt.removeAll(Arrays.asList(5, 20, 70)));
+        assertEquals("10 30 40 60 80 90 100", bstInt.inOrderTraversal());
+
+        assertTrue(bstInt.retainAll(Arrays.asList(100, 40, 41, 10, 60)));
+        assertEquals("10 40 60 100", bstInt.inOrderTraversal());
+        assertFalse(bstInt.retainAll(Arrays.asList(10, 40, 60, 100, 200)));
+        assertTrue(bstInt.isBalanced());
+    }
+
+    @Test
+    public void testPerKeyBatchResults() {
+        bstInt.addAll(Arrays.asList(1, 3, 5, 7));
+
+        assertArrayEquals(new boolean[]{true, false, true, false, true}, bstInt.containsEach(Arrays.asList(7, 2, 1, 8, 7)));
+        assertArrayEquals(new boolean[]{true, false, true, false}, bstInt.addEach(Arrays.asList(2, 3, 9, 2)));
+        assertEquals("1 2 3 5 7 9", bstInt.inOrderTraversal());
+        assertArrayEquals(new boolean[]{true, false, false, true}, bstInt.removeEach(Arrays.asList(9, 4, 9, 1)));
+        assertEquals("2 3 5 7", bstInt.inOrderTraversal());
+        assertArrayEquals(new boolean[0], bstInt.containsEach(List.of()));
+    }
+
+    @Test
+    public void testBatchOperationsMatchTreeSet() {
+        Random random = new Random(19);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int round = 0; round < 200; round++) {
+            List<Integer> batch = new ArrayList<>();
+            int batchSize = random.nextInt(round % 10 == 0 ? 400 : 8);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(random.nextInt(1000));
+            }
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.addAll(batch), bstInt.addAll(batch));
+                    break;
+                case 1:
+                    assertEquals(expected.removeAll(batch), bstInt.removeAll(batch));
+                    break;
+                case 2:
+                    assertEquals(expected.containsAll(batch), bstInt.containsAll(batch));
+                    break;
+                default:
+                    if (round % 20 == 0) {
+                        assertEquals(expected.retainAll(batch), bstInt.retainAll(batch));
+                    }
+            }
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(bstInt));
+        }
+    }
+
+    @Test
+    public void testSnapshotIsIsolatedFromLaterWrites() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(70);
+        bstInt.add(20);
+        bstInt.add(40);
+
+        BinarySearchTree<Integer> snapshot = bstInt.snapshot();
+        bstInt.add(60);
+        bstInt.remove((Integer) 30);
+        bstInt.remove((Integer) 50);
+
+        assertEquals("20 30 40 50 70", snapshot.inOrderTraversal());
+        assertEquals("50 30 20 40 70", snapshot.preOrderTraversal());
+        assertEquals(5, snapshot.size());
+        assertEquals("20 40 60 70", bstInt.inOrderTraversal());
+        assertSame(bstInt.search(20), snapshot.search(20));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(10));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove((Integer) 20));
+    }
+
+    @Test
+    public void testStreamingTraversals() {
+        bstInt.add(50);
+        bstInt.add(30);
+        bstInt.add(70);
+        bstInt.add(20);
+        bstInt.add(40);
+        bstInt.add(60);
+        bstInt.add(80);
+
+        assertEquals(Arrays.asList(20, 30, 40, 50, 60, 70, 80), bstInt.stream(TraversalOrder.IN_ORDER).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(50, 30, 20, 40, 70, 60, 80), bstInt.stream(TraversalOrder.PRE_ORDER).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(20, 40, 30, 60, 80, 70, 50), bstInt.stream(TraversalOrder.POST_ORDER).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(50, 30, 70, 20, 40, 60, 80), bstInt.stream(TraversalOrder.LEVEL_ORDER).collect(Collectors.toList()));
+
+        List<Integer> visited = new ArrayList<>();
+        assertFalse(bstInt.traverse(TraversalOrder.POST_ORDER, value -> {
+            visited.add(value);
+            return visited.size() < 3;
+        }));
+        assertEquals(Arrays.asList(20, 40, 30), visited);
+        assertEquals(40, bstInt.stream(TraversalOrder.LEVEL_ORDER).filter(v -> v % 40 == 0).findFirst().orElseThrow());
+    }
+
+    @Test
+    public void testSpliteratorSplitsAtSubtrees() {
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(IntStream.range(0, 1023).boxed());
+
+        Spliterator<Integer> whole = tree.spliterator();
+        assertTrue(whole.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        Spliterator<Integer> left = whole.trySplit();
+        assertEquals(511, left.estimateSize());
+        assertEquals(512, whole.estimateSize());
+
+        assertEquals(1023L * 1022 / 2, tree.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(tree.inOrderTraversal(), tree.parallelStream().map(String::valueOf).collect(Collectors.joining(" ")));
+    }
+
+    @Test
+    public void testParallelBulkOperations() {
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(IntStream.range(0, 100_000).boxed());
+        List<Integer> present = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        assertTrue(tree.parallelIsBalanced());
+        assertTrue(tree.parallelContainsAll(present));
+        present.set(50_000, -1);
+        assertFalse(tree.parallelContainsAll(present));
+
+        for (int i = 0; i < 20_000; i++) {
+            bstInt.add(i);
+        }
+        assertFalse(bstInt.parallelIsBalanced());
+    }
+
     @Test
     public void testInsertAndInOrderTraversalStrings() {
         bstString.add("apple");
@@ -202,4 +619,90 @@ public class BinarySearchTreeTest {
         String expectedOutput = "50.5 30.2 70.8";
         assertEquals(expectedOutput, bstDouble.levelOrderTraversal());
     }
+
+    @Test
+    public void testReverseComparator() {
+        BinarySearchTree<Integer> tree = new AVLTree<>(Comparator.reverseOrder());
+        for (int value : new int[]{5, 1, 9, 3, 7}) {
+            tree.add(value);
+        }
+
+        assertEquals("9 7 5 3 1", tree.inOrderTraversal());
+        assertEquals(9, tree.first());
+        assertEquals(3, tree.higher(5));
+        assertEquals(List.of(7, 5, 3), new ArrayList<>(tree.subSet(7, true, 3, true)));
+        assertEquals(2, tree.indexOf(5));
+        assertTrue(tree.containsAll(List.of(1, 9)));
+        assertEquals(Comparator.reverseOrder(), tree.comparator());
+        assertEquals("9 7 5 3 1", tree.snapshot().inOrderTraversal());
+    }
+
+    @Test
+    public void testCaseInsensitiveComparator() {
+        BinarySearchTree<String> tree = new BinarySearchTree<>(String.CASE_INSENSITIVE_ORDER);
+        tree.add("banana");
+        tree.add("Apple");
+        assertFalse(tree.add("APPLE"));
+        tree.addAll(List.of("cherry", "BANANA", "date"));
+
+        assertEquals("Apple banana cherry date", tree.inOrderTraversal());
+        assertTrue(tree.contains("CHERRY"));
+        tree.remove("DATE");
+        assertEquals(3, tree.size());
+        assertThrows(NullPointerException.class, () -> new BinarySearchTree<String>().add(null));
+    }
+
+    @Test
+    public void testKeyPrefixesMatchTreeSet() {
+        Random random = new Random(20);
+        BinarySearchTree<String> tree = new AVLTree<>(null, KeyPrefixes.STRING);
+        TreeSet<String> expected = new TreeSet<>();
+        String[] stems = {"", "a", "ab", "abc", "abcd", "abcde", "b\0", "zz"};
+        for (int i = 0; i < 20_000; i++) {
+            String value = stems[random.nextInt(stems.length)] + Integer.toString(random.nextInt(500), 36);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), tree.remove(value));
+            } else {
+                assertEquals(expected.add(value), tree.add(value));
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(tree));
+        assertEquals(expected.ceiling("abc"), tree.ceiling("abc"));
+        assertEquals(expected.headSet("abcd").size(), tree.headSet("abcd").size());
+        assertTrue(tree.isBalanced());
+    }
+
+    @Test
+    public void testKeyPrefixesSkipComparisons() {
+        AtomicInteger calls = new AtomicInteger();
+        Comparator<String> counting = (a, b) -> {
+            calls.incrementAndGet();
+            return a.compareTo(b);
+        };
+        BinarySearchTree<String> plain = new AVLTree<>(counting);
+        BinarySearchTree<String> cached = new AVLTree<>(counting, KeyPrefixes.string(key -> key));
+        List<String> keys = IntStream.range(0, 1000)
+                .mapToObj(i -> String.format("%04d-long-shared-suffix", i))
+                .collect(Collectors.toList());
+        keys.forEach(plain::add);
+        int plainCalls = calls.getAndSet(0);
+        keys.forEach(cached::add);
+        int cachedCalls = calls.get();
+
+        assertEquals(new ArrayList<>(plain), new ArrayList<>(cached));
+        assertTrue(cachedCalls * 4 < plainCalls);
+    }
+
+    @Test
+    public void testLoadPreOrderChecksBounds() {
+        assertThrows(IllegalArgumentException.class, () -> bstInt.loadPreOrder(new Object[]{5, 3, 4, 2}));
+        assertTrue(bstInt.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bstInt.loadPreOrder(new Object[]{5, 3, 4, 3}));
+        assertThrows(IllegalArgumentException.class, () -> bstInt.loadPreOrder(new Object[]{5, 8, 6, 9, 7}));
+
+        bstInt.loadPreOrder(new Object[]{5, 3, 2, 4, 8, 6, 9});
+        assertEquals("2 3 4 5 6 8 9", bstInt.inOrderTraversal());
+        assertEquals(2, bstInt.height());
+    }
 }
@@ -0,0 +1,131 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentBinarySearchTreeTest {
+
+    private ConcurrentBinarySearchTree<Integer> tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new ConcurrentBinarySearchTree<>();
+    }
+
+    @Test
+    public void testSingleThreadedBehaviour() {
+        for (int i = 1; i <= 100; i++) {
+            tree.add(i);
+        }
+        tree.remove((Integer) 50);
+
+        assertEquals(99, tree.size());
+        assertTrue(tree.isBalanced());
+        assertFalse(tree.contains(50));
+        assertEquals(51, tree.ceiling(50));
+        assertEquals(49, tree.floor(50));
+        assertEquals(1, tree.first());
+
+        Iterator<Integer> iterator = tree.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(50, tree.size());
+    }
+
+    @Test
+    public void testViewsAreReadOnlySnapshots() {
+        for (int i = 1; i <= 5; i++) {
+            tree.add(i);
+        }
+        List<Integer> positions = tree.subList(1, 3);
+        NavigableSet<Integer> descending = tree.descendingSet();
+        NavigableSet<Integer> range = tree.subSet(2, true, 4, true);
+        tree.add(6);
+        tree.remove((Integer) 3);
+
+        assertEquals(List.of(2, 3), positions);
+        assertEquals(List.of(5, 4, 3, 2, 1), new ArrayList<>(descending));
+        assertEquals(List.of(2, 3, 4), new ArrayList<>(range));
+        assertThrows(UnsupportedOperationException.class, positions::clear);
+        assertThrows(UnsupportedOperationException.class, descending::pollFirst);
+        assertThrows(UnsupportedOperationException.class, () -> range.remove(2));
+        assertEquals(List.of(1, 2, 4, 5, 6), new ArrayList<>(tree));
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        int writers = 4;
+        int readers = 4;
+        int perWriter = 5000;
+        int stable = 1000;
+        int written = writers * perWriter;
+        // Keys below stable are never touched by the writers, keys from stable + written on are never inserted.
+        for (int i = 0; i < stable; i++) {
+            tree.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CyclicBarrier start = new CyclicBarrier(writers + readers);
+        AtomicBoolean done = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            int offset = stable + w * perWriter;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perWriter; i++) {
+                    tree.add(offset + i);
+                }
+                for (int i = 0; i < perWriter; i += 2) {
+                    tree.remove((Integer) (offset + i));
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (!done.get()) {
+                    int present = random.nextInt(stable);
+                    assertTrue(tree.contains(present));
+                    int absent = stable + written + random.nextInt(stable);
+                    assertFalse(tree.contains(absent));
+                    assertFalse(tree.contains(-1 - present));
+                    int size = tree.size();
+                    assertTrue(size >= stable && size <= stable + written);
+                }
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < writers; i++) {
+            futures.get(i).get(60, TimeUnit.SECONDS);
+        }
+        done.set(true);
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(stable + written / 2, tree.size());
+        assertTrue(tree.isBalanced());
+        for (int i = 0; i < stable; i++) {
+            assertTrue(tree.contains(i));
+        }
+        for (int i = 0; i < written; i++) {
+            assertEquals(i % 2 == 1, tree.contains(stable + i));
+        }
+    }
+}
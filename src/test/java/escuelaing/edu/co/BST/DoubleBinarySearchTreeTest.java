@@ -0,0 +1,46 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleBinarySearchTreeTest {
+
+    private DoubleBinarySearchTree tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new DoubleBinarySearchTree();
+    }
+
+    @Test
+    public void testInsertDeleteAndTraversal() {
+        tree.insert(25.5);
+        tree.insert(15.2);
+        tree.insert(30.8);
+        tree.insert(12.9);
+        tree.insert(18.6);
+
+        assertEquals("12.9 15.2 18.6 25.5 30.8", tree.inOrderTraversal());
+        assertEquals(12.9, tree.findMin());
+        assertEquals(30.8, tree.findMax());
+
+        tree.delete(15.2);
+        assertEquals("12.9 18.6 25.5 30.8", tree.inOrderTraversal());
+        assertEquals("25.5 18.6 12.9 30.8", tree.preOrderTraversal());
+    }
+
+    @Test
+    public void testOrderingMatchesDoubleCompare() {
+        tree.insert(0.0);
+        tree.insert(-0.0);
+        tree.insert(Double.NaN);
+        tree.insert(Double.NaN);
+
+        assertEquals(3, tree.size());
+        assertTrue(tree.search(Double.NaN));
+        assertEquals(-0.0, tree.findMin());
+        assertTrue(Double.isNaN(tree.findMax()));
+    }
+}
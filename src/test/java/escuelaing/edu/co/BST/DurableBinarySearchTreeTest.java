@@ -0,0 +1,181 @@
+package escuelaing.edu.co.BST;
+
+import escuelaing.edu.co.BST.DurableBinarySearchTree.FsyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurableBinarySearchTreeTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testModificationsSurviveReopen() throws IOException {
+        try (DurableBinarySearchTree<Integer> tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.ALWAYS)) {
+            for (int i = 1; i <= 10; i++) {
+                tree.insert(i);
+            }
+            tree.delete(4);
+            tree.insert(5);
+            assertEquals(11, tree.logRecords());
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.ALWAYS)) {
+            assertEquals("1 2 3 5 6 7 8 9 10", reopened.inOrderTraversal());
+            reopened.clear();
+            reopened.insert(42);
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.ALWAYS)) {
+            assertEquals("42", reopened.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testAlwaysPolicySurvivesWithoutClose() throws IOException {
+        DurableBinarySearchTree<String> tree = new DurableBinarySearchTree<>(directory, KeyCodec.STRING, FsyncPolicy.ALWAYS);
+        tree.insert("uno");
+        tree.insert("dos");
+        tree.delete("uno");
+
+        try (DurableBinarySearchTree<String> recovered = new DurableBinarySearchTree<>(directory, KeyCodec.STRING, FsyncPolicy.ALWAYS)) {
+            assertEquals("dos", recovered.inOrderTraversal());
+        }
+        tree.close();
+    }
+
+    @Test
+    public void testEveryRemovalPathIsLogged() throws IOException {
+        try (DurableBinarySearchTree<Integer> tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                values.add(i);
+            }
+            tree.addAll(values);
+            tree.remove(0);
+            tree.pollFirst();
+            tree.pollLast();
+            tree.remove((Integer) 50);
+            Iterator<Integer> iterator = tree.iterator();
+            iterator.next();
+            iterator.remove();
+            tree.headSet(10, false).pollLast();
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            assertEquals(94, reopened.size());
+            assertEquals(3, reopened.first());
+            assertEquals(98, reopened.last());
+            assertFalse(reopened.contains(50));
+            assertFalse(reopened.contains(9));
+        }
+    }
+
+    @Test
+    public void testBulkRemovalsAreLogged() throws IOException {
+        try (DurableBinarySearchTree<Integer> tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            for (int i = 0; i < 100; i++) {
+                tree.insert(i);
+            }
+            List<Integer> odd = new ArrayList<>();
+            for (int i = 1; i < 100; i += 2) {
+                odd.add(i);
+            }
+            assertTrue(tree.removeAll(odd));
+            assertTrue(tree.retainAll(List.of(0, 10, 20, 30, 31)));
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            assertEquals("0 10 20 30", reopened.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testBatchesLogEachChangedValueOnce() throws IOException {
+        try (DurableBinarySearchTree<Integer> tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            assertTrue(tree.addAll(List.of(5, 3, 5, 1, 3)));
+            assertEquals(3, tree.logRecords());
+            assertFalse(tree.addAll(List.of(1, 3)));
+            assertTrue(tree.removeAll(List.of(3, 7, 3, 9)));
+            assertFalse(tree.removeAll(List.of(7, 9)));
+            assertEquals(4, tree.logRecords());
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.BATCH)) {
+            assertEquals("1 5", reopened.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testLogIsCompacted() throws IOException {
+        Random random = new Random(5);
+        TreeSet<Integer> expected = new TreeSet<>();
+        try (DurableBinarySearchTree<Integer> tree = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.NEVER, 16, 100)) {
+            for (int i = 0; i < 2000; i++) {
+                int value = random.nextInt(150);
+                if (random.nextBoolean()) {
+                    tree.insert(value);
+                    expected.add(value);
+                } else {
+                    tree.delete(value);
+                    expected.remove(value);
+                }
+            }
+            assertTrue(tree.logRecords() < 200);
+            assertTrue(Files.exists(directory.resolve(DurableBinarySearchTree.SNAPSHOT_FILE)));
+        }
+
+        try (DurableBinarySearchTree<Integer> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.INTEGER, FsyncPolicy.NEVER)) {
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(reopened));
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDiscarded() throws IOException {
+        try (DurableBinarySearchTree<Long> tree = new DurableBinarySearchTree<>(directory, KeyCodec.LONG, FsyncPolicy.ALWAYS)) {
+            tree.insert(1L);
+            tree.insert(2L);
+        }
+        Path log = directory.resolve(DurableBinarySearchTree.LOG_FILE);
+        long validLength = Files.size(log);
+        Files.write(log, new byte[] {1, 0, 0, 0, 8, 7, 7}, StandardOpenOption.APPEND);
+
+        try (DurableBinarySearchTree<Long> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.LONG, FsyncPolicy.ALWAYS)) {
+            assertEquals("1 2", reopened.inOrderTraversal());
+            assertEquals(validLength, Files.size(log));
+            reopened.insert(3L);
+        }
+
+        try (DurableBinarySearchTree<Long> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.LONG, FsyncPolicy.ALWAYS)) {
+            assertEquals("1 2 3", reopened.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testBulkLoadIsPersisted() throws IOException {
+        Path source = directory.resolve("source.bst");
+        TreeSnapshots.save(BinarySearchTree.fromSorted(1.0, 2.0, 3.0), source, KeyCodec.DOUBLE, TreeSnapshots.Layout.SORTED);
+        Path data = directory.resolve("data");
+        try (DurableBinarySearchTree<Double> tree = new DurableBinarySearchTree<>(data, KeyCodec.DOUBLE, FsyncPolicy.BATCH)) {
+            tree.insert(9.0);
+            TreeSnapshots.load(source, KeyCodec.DOUBLE, tree);
+            assertEquals(0, tree.logRecords());
+        }
+
+        try (DurableBinarySearchTree<Double> reopened = new DurableBinarySearchTree<>(data, KeyCodec.DOUBLE, FsyncPolicy.BATCH)) {
+            assertEquals("1.0 2.0 3.0", reopened.inOrderTraversal());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntBinarySearchTreeTest {
+
+    private IntBinarySearchTree tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new IntBinarySearchTree();
+    }
+
+    @Test
+    public void testInsertAndTraversals() {
+        tree.insert(50);
+        tree.insert(30);
+        tree.insert(70);
+        tree.insert(20);
+        tree.insert(40);
+        tree.insert(60);
+        tree.insert(80);
+
+        assertEquals("20 30 40 50 60 70 80", tree.inOrderTraversal());
+        assertEquals("50 30 20 40 70 60 80", tree.preOrderTraversal());
+        assertEquals("20 40 30 60 80 70 50", tree.postOrderTraversal());
+        assertEquals("50 30 70 20 40 60 80", tree.levelOrderTraversal());
+        assertEquals(2, tree.height());
+        assertEquals(20, tree.findMin());
+        assertEquals(80, tree.findMax());
+    }
+
+    @Test
+    public void testDeleteAndReuseOfSlots() {
+        tree.insert(50);
+        tree.insert(30);
+        tree.insert(70);
+        assertFalse(tree.insert(30));
+
+        assertTrue(tree.delete(50));
+        assertFalse(tree.delete(50));
+        assertEquals("30 70", tree.inOrderTraversal());
+        assertEquals(2, tree.size());
+
+        tree.insert(60);
+        assertTrue(tree.search(60));
+        assertArrayEquals(new int[]{30, 60, 70}, tree.toArray());
+    }
+
+    @Test
+    public void testEmptyTree() {
+        assertTrue(tree.isEmpty());
+        assertEquals(-1, tree.height());
+        assertEquals("", tree.inOrderTraversal());
+        assertThrows(NoSuchElementException.class, tree::findMin);
+    }
+
+    @Test
+    public void testRandomOperationsMatchTreeSet() {
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), tree.insert(key));
+            } else {
+                assertEquals(expected.remove(key), tree.delete(key));
+            }
+        }
+
+        assertEquals(expected.size(), tree.size());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), tree.toArray());
+    }
+
+    @Test
+    public void testFromSorted() {
+        IntBinarySearchTree loaded = IntBinarySearchTree.fromSorted(7, 1, 3, 3, 5);
+
+        assertEquals("1 3 5 7", loaded.inOrderTraversal());
+        assertEquals(2, loaded.height());
+        assertTrue(loaded.contains(5));
+        assertTrue(loaded.insert(9));
+        assertTrue(loaded.delete(3));
+        assertEquals("5 1 7 9", loaded.preOrderTraversal());
+    }
+
+    @Test
+    public void testDegenerateTreeTraversals() {
+        for (int i = 0; i < 10_000; i++) {
+            tree.insert(i);
+        }
+
+        assertEquals(9_999, tree.height());
+        assertEquals(9_999, tree.findMax());
+        int[] expected = {0};
+        tree.forEachInOrder(key -> assertEquals(expected[0]++, key));
+        assertEquals(10_000, expected[0]);
+        tree.rebalance();
+        assertEquals(13, tree.height());
+        assertEquals(10_000, tree.toArray().length);
+        assertTrue(tree.contains(5_000));
+        tree.clear();
+        assertEquals(-1, tree.height());
+        tree.rebalance();
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentSearchesOnASharedTree() throws Exception {
+        for (int i = 0; i < 2000; i += 2) {
+            tree.insert(i);
+        }
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CyclicBarrier start = new CyclicBarrier(readers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            int seed = r;
+            futures.add(executor.submit(() -> {
+                start.await();
+                Random random = new Random(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    int key = random.nextInt(2000);
+                    assertEquals(key % 2 == 0, tree.search(key));
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(1000, tree.size());
+    }
+}
@@ -0,0 +1,70 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntervalTreeTest {
+
+    @Test
+    public void testOverlappingAndStabbing() {
+        IntervalTree<Integer> windows = new IntervalTree<>();
+        assertTrue(windows.add(15, 20));
+        assertTrue(windows.add(10, 30));
+        assertTrue(windows.add(17, 19));
+        assertTrue(windows.add(5, 20));
+        assertTrue(windows.add(12, 15));
+        assertTrue(windows.add(30, 40));
+        assertFalse(windows.add(12, 15));
+
+        assertEquals("[[5, 20], [10, 30], [12, 15], [15, 20], [17, 19]]", windows.overlapping(14, 17).toString());
+        assertEquals("[[10, 30], [30, 40]]", windows.stabbing(30).toString());
+        assertEquals(List.of(), windows.overlapping(41, 50));
+        assertEquals(List.of(), windows.stabbing(4));
+
+        assertTrue(windows.remove(10, 30));
+        assertFalse(windows.remove(10, 30));
+        assertEquals("[[30, 40]]", windows.stabbing(30).toString());
+        assertEquals(40, windows.aggregate());
+        assertThrows(IllegalArgumentException.class, () -> new Interval<>(3, 2));
+    }
+
+    @Test
+    public void testQueriesMatchBruteForce() {
+        Random random = new Random(24);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<Interval<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int start = random.nextInt(10_000);
+            Interval<Integer> interval = new Interval<>(start, start + random.nextInt(200));
+            if (random.nextInt(4) == 0 && !expected.isEmpty()) {
+                Interval<Integer> removed = expected.remove(random.nextInt(expected.size()));
+                assertTrue(tree.remove(removed));
+            } else if (!expected.contains(interval)) {
+                expected.add(interval);
+                assertTrue(tree.add(interval));
+            }
+            if (i % 100 == 0) {
+                int from = random.nextInt(10_200);
+                Interval<Integer> query = new Interval<>(from, from + random.nextInt(300));
+                List<Interval<Integer>> overlapping = expected.stream()
+                        .filter(query::overlaps)
+                        .sorted()
+                        .collect(Collectors.toList());
+                assertEquals(overlapping, tree.overlapping(query));
+                List<Interval<Integer>> stabbed = expected.stream()
+                        .filter(candidate -> candidate.contains(from))
+                        .sorted()
+                        .collect(Collectors.toList());
+                assertEquals(stabbed, tree.stabbing(from));
+            }
+        }
+        assertTrue(tree.isBalanced());
+        assertEquals(expected.size(), tree.size());
+    }
+}
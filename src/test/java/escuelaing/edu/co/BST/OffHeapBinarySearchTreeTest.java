@@ -0,0 +1,165 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapBinarySearchTreeTest {
+
+    @Test
+    public void testLongTreeTraversals() {
+        try (OffHeapLongBinarySearchTree tree = new OffHeapLongBinarySearchTree()) {
+            for (long key : new long[]{50, 30, 70, 20, 40, 60, 80}) {
+                assertTrue(tree.insert(key));
+            }
+            assertFalse(tree.insert(30));
+
+            assertEquals("20 30 40 50 60 70 80", tree.inOrderTraversal());
+            assertEquals("50 30 20 40 70 60 80", tree.preOrderTraversal());
+            assertEquals("20 40 30 60 80 70 50", tree.postOrderTraversal());
+            assertEquals("50 30 70 20 40 60 80", tree.levelOrderTraversal());
+            assertEquals(2, tree.height());
+            assertEquals(20, tree.findMin());
+            assertEquals(80, tree.findMax());
+
+            assertTrue(tree.delete(50));
+            assertEquals("20 30 40 60 70 80", tree.inOrderTraversal());
+            assertEquals(6, tree.size());
+        }
+    }
+
+    @Test
+    public void testLongTreeMatchesTreeSetAcrossSegments() {
+        Random random = new Random(17);
+        TreeSet<Long> expected = new TreeSet<>();
+        try (OffHeapLongBinarySearchTree tree = new OffHeapLongBinarySearchTree()) {
+            for (int i = 0; i < 150_000; i++) {
+                long key = random.nextInt(200_000);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(expected.remove(key), tree.delete(key));
+                } else {
+                    assertEquals(expected.add(key), tree.insert(key));
+                }
+            }
+
+            assertEquals(expected.size(), tree.size());
+            assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), tree.toArray());
+            assertEquals(expected.first(), tree.findMin());
+            assertEquals(expected.last(), tree.findMax());
+            assertTrue(tree.allocatedBytes() > 0);
+        }
+    }
+
+    @Test
+    public void testDoubleTree() {
+        try (OffHeapDoubleBinarySearchTree tree = new OffHeapDoubleBinarySearchTree()) {
+            tree.insert(2.5);
+            tree.insert(-1.0);
+            tree.insert(7.25);
+            tree.insert(Double.NaN);
+
+            assertTrue(tree.contains(7.25));
+            assertFalse(tree.contains(7.0));
+            assertEquals(-1.0, tree.findMin());
+            assertTrue(Double.isNaN(tree.findMax()));
+            assertEquals("-1.0 2.5 7.25 NaN", tree.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testBytesTreeUsesUnsignedOrder() {
+        try (OffHeapBytesBinarySearchTree tree = new OffHeapBytesBinarySearchTree(Long.BYTES)) {
+            long[] values = {5, -1, 300, Long.MIN_VALUE, 0};
+            for (long value : values) {
+                tree.insert(ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+            }
+
+            byte[][] keys = tree.toArray();
+            long[] decoded = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                decoded[i] = ByteBuffer.wrap(keys[i]).getLong();
+            }
+            assertArrayEquals(new long[]{0, 5, 300, Long.MIN_VALUE, -1}, decoded);
+
+            byte[] key = ByteBuffer.allocate(Long.BYTES).putLong(300).array();
+            assertTrue(tree.contains(key));
+            assertTrue(tree.delete(key));
+            assertFalse(tree.contains(key));
+            assertThrows(IllegalArgumentException.class, () -> tree.insert(new byte[3]));
+        }
+    }
+
+    @Test
+    public void testBytesTreeCopiesKeys() {
+        try (OffHeapBytesBinarySearchTree tree = new OffHeapBytesBinarySearchTree(2)) {
+            byte[] key = {0x01, (byte) 0xAB};
+            tree.insert(key);
+            tree.insert(new byte[]{0x00, 0x10});
+            key[0] = 0x7F;
+
+            assertTrue(tree.contains(new byte[]{0x01, (byte) 0xAB}));
+            assertFalse(tree.contains(key));
+            assertEquals("0010 01ab", tree.inOrderTraversal());
+            assertEquals("01ab 0010", tree.preOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testFromSortedAndRebalance() {
+        try (OffHeapLongBinarySearchTree loaded = OffHeapLongBinarySearchTree.fromSorted(7, 1, 3, 3, 5);
+             OffHeapDoubleBinarySearchTree doubles = OffHeapDoubleBinarySearchTree.fromSorted(0.5, -2.0, 0.5);
+             OffHeapBytesBinarySearchTree bytes = OffHeapBytesBinarySearchTree.fromSorted(1,
+                     new byte[]{(byte) 0xFF}, new byte[]{0x01}, new byte[]{0x10})) {
+            assertEquals("1 3 5 7", loaded.inOrderTraversal());
+            assertEquals(2, loaded.height());
+            assertTrue(loaded.insert(9));
+            assertTrue(loaded.delete(3));
+            assertEquals("5 1 7 9", loaded.preOrderTraversal());
+            assertEquals("-2.0 0.5", doubles.inOrderTraversal());
+            assertEquals("10 01 ff", bytes.preOrderTraversal());
+            assertThrows(IllegalArgumentException.class,
+                    () -> OffHeapBytesBinarySearchTree.fromSorted(1, new byte[]{0x01}, new byte[2]));
+        }
+
+        try (OffHeapLongBinarySearchTree tree = new OffHeapLongBinarySearchTree()) {
+            for (long key = 0; key < 10_000; key++) {
+                tree.insert(key);
+            }
+            assertEquals(9_999, tree.height());
+
+            tree.rebalance();
+            assertEquals(13, tree.height());
+            assertEquals(10_000, tree.size());
+            assertArrayEquals(LongStream.range(0, 10_000).toArray(), tree.toArray());
+            assertTrue(tree.contains(5_432));
+            assertTrue(tree.delete(0));
+            assertTrue(tree.insert(-1));
+            assertEquals(-1, tree.findMin());
+        }
+    }
+
+    @Test
+    public void testEmptyAndClosedTree() {
+        OffHeapLongBinarySearchTree tree = new OffHeapLongBinarySearchTree();
+        assertTrue(tree.isEmpty());
+        assertEquals(-1, tree.height());
+        assertThrows(NoSuchElementException.class, tree::findMin);
+
+        tree.insert(1);
+        tree.clear();
+        assertTrue(tree.isEmpty());
+        tree.insert(2);
+        assertEquals("2", tree.inOrderTraversal());
+
+        tree.close();
+        assertEquals(0, tree.allocatedBytes());
+        assertThrows(IllegalStateException.class, () -> tree.insert(3));
+        tree.close();
+    }
+}
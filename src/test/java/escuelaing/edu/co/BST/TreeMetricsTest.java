@@ -0,0 +1,152 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeMetricsTest {
+
+    @Test
+    public void testMetricsAreDisabledByDefault() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        tree.add(1);
+        assertNull(tree.metrics());
+
+        TreeMetrics metrics = tree.enableMetrics();
+        assertSame(metrics, tree.enableMetrics());
+        tree.disableMetrics();
+        assertNull(tree.metrics());
+        tree.contains(1);
+        assertEquals(0, metrics.getSearches());
+    }
+
+    @Test
+    public void testOperationCountsAndComparisons() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        TreeMetrics metrics = tree.enableMetrics();
+        tree.add(50);
+        tree.add(30);
+        tree.add(70);
+        tree.add(30);
+
+        assertTrue(tree.contains(70));
+        assertFalse(tree.contains(60));
+        tree.remove(Integer.valueOf(30));
+
+        assertEquals(4, metrics.getInsertions());
+        assertEquals(2, metrics.getSearches());
+        assertEquals(1, metrics.getDeletions());
+        // Insertions 0 + 1 + 1 + 2, searches 2 + 2, deletion 2.
+        assertEquals(10, metrics.getComparisons());
+        assertEquals(10.0 / 7, metrics.getComparisonsPerOperation(), 1e-9);
+        long[] depths = metrics.getDepthHistogram();
+        assertEquals(7, Arrays.stream(depths).sum());
+        assertEquals(1, depths[0]);
+        assertEquals(5, depths[1]);
+        assertEquals(1, depths[2]);
+        assertEquals(2, metrics.getSize());
+        assertEquals(1, metrics.getHeight());
+        assertEquals(0, metrics.getRotations());
+
+        metrics.reset();
+        assertEquals(0, metrics.getComparisons());
+        assertEquals(0, metrics.getSearchLatencyP99());
+    }
+
+    @Test
+    public void testComparisonsDecidedByKeyPrefixesAreNotCounted() {
+        BinarySearchTree<String> tree = new BinarySearchTree<>(Comparator.naturalOrder(), KeyPrefixes.STRING);
+        TreeMetrics metrics = tree.enableMetrics();
+        tree.add("apple");
+        tree.add("banana");
+        tree.add("cherry");
+        assertEquals(0, metrics.getComparisons());
+
+        assertTrue(tree.contains("cherry"));
+        assertFalse(tree.contains("date"));
+        assertTrue(tree.add("applesauce"));
+        // Only the hit on "cherry" and "applesauce" against "apple" share a prefix.
+        assertEquals(2, metrics.getComparisons());
+        assertEquals(3, metrics.getDepthHistogram()[2]);
+    }
+
+    @Test
+    public void testRotationsAndLatencies() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        TreeMetrics metrics = tree.enableMetrics();
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            tree.contains(i);
+        }
+
+        assertTrue(metrics.getRotations() >= 990);
+        assertTrue(metrics.getSearchLatencyP99() >= metrics.getSearchLatencyP50());
+        assertTrue(metrics.latencyPercentile("search", 100) >= metrics.getSearchLatencyP99());
+        assertEquals(metrics.getInsertLatencyP99(), metrics.latencyPercentile("insert", 99));
+        assertEquals(0, metrics.getDeleteLatencyP50());
+        assertThrows(IllegalArgumentException.class, () -> metrics.latencyPercentile("scan", 50));
+        assertThrows(IllegalArgumentException.class, () -> metrics.latencyPercentile("search", 101));
+    }
+
+    @Test
+    public void testConcurrentTreeRecordsOptimisticSearches() {
+        ConcurrentBinarySearchTree<Integer> tree = new ConcurrentBinarySearchTree<>();
+        TreeMetrics metrics = tree.enableMetrics();
+        for (int i = 0; i < 100; i++) {
+            tree.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(tree.contains(i));
+        }
+
+        assertEquals(100, metrics.getSearches());
+        assertEquals(100, metrics.getInsertions());
+        assertTrue(metrics.getRotations() > 0);
+    }
+
+    @Test
+    public void testJmxRegistration() throws Exception {
+        BinarySearchTree<String> tree = new AVLTree<>();
+        TreeMetrics metrics = tree.enableMetrics().register("jmx-test");
+        tree.add("a");
+        tree.add("b");
+        tree.contains("a");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("escuelaing.edu.co.BST:type=TreeMetrics,name=\"jmx-test\"");
+        assertTrue(server.isRegistered(name));
+        assertEquals(2, server.getAttribute(name, "Size"));
+        assertEquals(1L, server.getAttribute(name, "Searches"));
+        assertThrows(IllegalStateException.class, () -> new AVLTree<String>().enableMetrics().register("jmx-test"));
+
+        tree.disableMetrics();
+        assertFalse(server.isRegistered(name));
+        assertEquals(1, metrics.getSearches());
+    }
+
+    @Test
+    public void testRegisteringAgainMovesTheMetrics() throws Exception {
+        TreeMetrics metrics = new AVLTree<Integer>().enableMetrics();
+        assertSame(metrics, metrics.register("jmx-move"));
+        assertSame(metrics, metrics.register("jmx-move"));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName first = new ObjectName("escuelaing.edu.co.BST:type=TreeMetrics,name=\"jmx-move\"");
+        ObjectName second = new ObjectName("escuelaing.edu.co.BST:type=TreeMetrics,name=\"jmx-moved\"");
+        assertTrue(server.isRegistered(first));
+        metrics.register("jmx-moved");
+        assertFalse(server.isRegistered(first));
+        assertTrue(server.isRegistered(second));
+
+        metrics.unregister();
+        assertFalse(server.isRegistered(second));
+    }
+}
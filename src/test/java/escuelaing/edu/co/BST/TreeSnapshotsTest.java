@@ -0,0 +1,169 @@
+package escuelaing.edu.co.BST;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeSnapshotsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSortedLayoutLoadsBalanced() throws IOException {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i);
+        }
+        Path file = directory.resolve("sorted.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.INTEGER, TreeSnapshots.Layout.SORTED);
+
+        BinarySearchTree<Integer> loaded = TreeSnapshots.load(file, KeyCodec.INTEGER);
+
+        assertEquals(tree.inOrderTraversal(), loaded.inOrderTraversal());
+        assertEquals(1000, loaded.size());
+        assertEquals(9, loaded.height());
+        assertTrue(loaded.isBalanced());
+    }
+
+    @Test
+    public void testPreOrderLayoutKeepsShape() throws IOException {
+        Random random = new Random(11);
+        BinarySearchTree<Long> tree = new BinarySearchTree<>();
+        for (int i = 0; i < 2000; i++) {
+            tree.insert(random.nextLong());
+        }
+        Path file = directory.resolve("shape.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.LONG, TreeSnapshots.Layout.PRE_ORDER);
+
+        BinarySearchTree<Long> loaded = TreeSnapshots.load(file, KeyCodec.LONG);
+
+        assertEquals(tree.preOrderTraversal(), loaded.preOrderTraversal());
+        assertEquals(tree.height(), loaded.height());
+        assertEquals(tree.size(), loaded.size());
+        assertEquals(tree.get(1234), loaded.get(1234));
+    }
+
+    @Test
+    public void testAVLTreeRoundTrip() throws IOException {
+        AVLTree<Double> tree = new AVLTree<>();
+        for (int i = 0; i < 500; i++) {
+            tree.insert(i / 4.0);
+        }
+        Path file = directory.resolve("avl.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.DOUBLE, TreeSnapshots.Layout.PRE_ORDER);
+
+        AVLTree<Double> loaded = TreeSnapshots.load(file, KeyCodec.DOUBLE, new AVLTree<>());
+
+        assertEquals(tree.levelOrderTraversal(), loaded.levelOrderTraversal());
+        assertTrue(loaded.isBalanced());
+        loaded.insert(1000.0);
+        loaded.delete(0.0);
+        assertTrue(loaded.isBalanced());
+        assertEquals(500, loaded.size());
+    }
+
+    @Test
+    public void testStringKeysWithLengthPrefix() throws IOException {
+        BinarySearchTree<String> tree = new BinarySearchTree<>();
+        tree.insert("pera");
+        tree.insert("árbol");
+        tree.insert("");
+        tree.insert("🌳 raíz");
+        tree.insert("manzana");
+        Path file = directory.resolve("strings.bst");
+
+        for (TreeSnapshots.Layout layout : TreeSnapshots.Layout.values()) {
+            TreeSnapshots.save(tree, file, KeyCodec.STRING, layout);
+            BinarySearchTree<String> loaded = TreeSnapshots.load(file, KeyCodec.STRING);
+
+            assertEquals(tree.inOrderTraversal(), loaded.inOrderTraversal());
+            assertTrue(loaded.contains("🌳 raíz"));
+            assertTrue(loaded.contains(""));
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogateKeepsLengthPrefixConsistent() throws IOException {
+        BinarySearchTree<String> tree = new BinarySearchTree<>();
+        tree.insert("a\uD800b");
+        tree.insert("m");
+        tree.insert("z\uDC00");
+        Path file = directory.resolve("surrogate.bst");
+
+        for (TreeSnapshots.Layout layout : TreeSnapshots.Layout.values()) {
+            TreeSnapshots.save(tree, file, KeyCodec.STRING, layout);
+            BinarySearchTree<String> loaded = TreeSnapshots.load(file, KeyCodec.STRING);
+
+            assertEquals("a?b m z?", loaded.inOrderTraversal());
+        }
+        try (DurableBinarySearchTree<String> durable = new DurableBinarySearchTree<>(directory, KeyCodec.STRING, DurableBinarySearchTree.FsyncPolicy.ALWAYS)) {
+            durable.insert("a\uD800b");
+            durable.insert("m");
+        }
+        try (DurableBinarySearchTree<String> reopened = new DurableBinarySearchTree<>(directory, KeyCodec.STRING, DurableBinarySearchTree.FsyncPolicy.ALWAYS)) {
+            assertEquals("a?b m", reopened.inOrderTraversal());
+        }
+    }
+
+    @Test
+    public void testEmptyTreeRoundTrip() throws IOException {
+        Path file = directory.resolve("empty.bst");
+        TreeSnapshots.save(new BinarySearchTree<Integer>(), file, KeyCodec.INTEGER, TreeSnapshots.Layout.PRE_ORDER);
+
+        BinarySearchTree<Integer> loaded = TreeSnapshots.load(file, KeyCodec.INTEGER);
+
+        assertTrue(loaded.isEmpty());
+    }
+
+    @Test
+    public void testLoadIntoConcurrentTree() throws IOException {
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(1, 2, 3, 4, 5);
+        Path file = directory.resolve("concurrent.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.INTEGER, TreeSnapshots.Layout.SORTED);
+
+        ConcurrentBinarySearchTree<Integer> loaded = TreeSnapshots.load(file, KeyCodec.INTEGER, new ConcurrentBinarySearchTree<>());
+
+        assertEquals(5, loaded.size());
+        assertTrue(loaded.contains(3));
+    }
+
+    @Test
+    public void testInvalidFilesAreRejected() throws IOException {
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(1, 2, 3);
+        Path file = directory.resolve("bad.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.INTEGER, TreeSnapshots.Layout.SORTED);
+
+        assertThrows(IOException.class, () -> TreeSnapshots.load(file, KeyCodec.LONG));
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        assertThrows(IOException.class, () -> TreeSnapshots.load(file, KeyCodec.INTEGER));
+
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> TreeSnapshots.load(file, KeyCodec.INTEGER));
+    }
+
+    @Test
+    public void testPreOrderOfAnotherOrderingIsRejected() throws IOException {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.reverseOrder());
+        for (int value : new int[]{5, 3, 8, 1, 4}) {
+            tree.insert(value);
+        }
+        Path file = directory.resolve("reversed.bst");
+        TreeSnapshots.save(tree, file, KeyCodec.INTEGER, TreeSnapshots.Layout.PRE_ORDER);
+
+        BinarySearchTree<Integer> target = new BinarySearchTree<>();
+        assertThrows(IOException.class, () -> TreeSnapshots.load(file, KeyCodec.INTEGER, target));
+        assertTrue(target.isEmpty());
+        assertEquals(tree.preOrderTraversal(), TreeSnapshots.load(file, KeyCodec.INTEGER, new BinarySearchTree<>(Comparator.<Integer>reverseOrder())).preOrderTraversal());
+    }
+}